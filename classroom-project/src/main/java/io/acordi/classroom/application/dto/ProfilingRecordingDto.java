@@ -0,0 +1,25 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record ProfilingRecordingDto(
+    @JsonProperty("id")
+    long id,
+    
+    @JsonProperty("estado")
+    String estado,
+    
+    @JsonProperty("configuracao")
+    String configuracao,
+    
+    @JsonProperty("inicio")
+    Instant inicio,
+    
+    @JsonProperty("duracaoMaximaSegundos")
+    long duracaoMaximaSegundos,
+    
+    @JsonProperty("tamanhoBytes")
+    long tamanhoBytes
+) {}
@@ -0,0 +1,6 @@
+package io.acordi.classroom.application.dto;
+
+public enum TurmaBatchMode {
+    ATOMIC,
+    PER_OPERATION
+}
@@ -0,0 +1,19 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record TurmaBatchOperationDto(
+    @NotNull(message = "Tipo da operação é obrigatório")
+    @JsonProperty("tipo")
+    TurmaBatchOperationType tipo,
+    
+    @Min(value = 1, message = "ID deve ser no mínimo 1")
+    @JsonProperty("id")
+    Long id,
+    
+    @JsonProperty("dados")
+    JsonNode dados
+) {}
@@ -0,0 +1,8 @@
+package io.acordi.classroom.application.dto;
+
+public enum TurmaBatchOperationType {
+    CREATE,
+    UPDATE,
+    PATCH,
+    DELETE
+}
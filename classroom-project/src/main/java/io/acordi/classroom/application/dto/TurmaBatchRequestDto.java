@@ -0,0 +1,23 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.Optional;
+
+public record TurmaBatchRequestDto(
+    @JsonProperty("modo")
+    TurmaBatchMode modo,
+    
+    @NotEmpty(message = "Informe ao menos uma operação")
+    @JsonProperty("operacoes")
+    List<@NotNull @Valid TurmaBatchOperationDto> operacoes
+) {
+    
+    public TurmaBatchRequestDto {
+        modo = Optional.ofNullable(modo).orElse(TurmaBatchMode.ATOMIC);
+    }
+}
@@ -0,0 +1,16 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record TurmaBatchResponseDto(
+    @JsonProperty("modo")
+    TurmaBatchMode modo,
+    
+    @JsonProperty("sucesso")
+    boolean sucesso,
+    
+    @JsonProperty("resultados")
+    List<TurmaBatchResultDto> resultados
+) {}
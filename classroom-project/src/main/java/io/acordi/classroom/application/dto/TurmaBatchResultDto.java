@@ -0,0 +1,17 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record TurmaBatchResultDto(
+    @JsonProperty("indice")
+    int indice,
+    
+    @JsonProperty("tipo")
+    TurmaBatchOperationType tipo,
+    
+    @JsonProperty("status")
+    int status,
+    
+    @JsonProperty("corpo")
+    Object corpo
+) {}
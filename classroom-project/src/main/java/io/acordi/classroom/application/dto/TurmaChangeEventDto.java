@@ -0,0 +1,21 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.acordi.classroom.application.event.TurmaChangeType;
+
+public record TurmaChangeEventDto(
+    @JsonProperty("sequence")
+    long sequence,
+    
+    @JsonProperty("type")
+    TurmaChangeType type,
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("turma")
+    TurmaResponseDto turma,
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("importacao")
+    TurmaImportSummaryDto importacao
+) {}
@@ -0,0 +1,24 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.acordi.classroom.domain.model.TurmaFacetCount;
+
+public record TurmaFacetDto(
+    @JsonProperty("curso")
+    String curso,
+    
+    @JsonProperty("periodo")
+    Integer periodo,
+    
+    @JsonProperty("total")
+    long total
+) {
+    
+    public static TurmaFacetDto fromFacetCount(TurmaFacetCount facetCount) {
+        return new TurmaFacetDto(
+            facetCount.curso(),
+            facetCount.periodo(),
+            facetCount.total()
+        );
+    }
+}
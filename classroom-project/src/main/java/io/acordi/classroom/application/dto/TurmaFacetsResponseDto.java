@@ -0,0 +1,61 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.acordi.classroom.domain.model.TurmaFacetCount;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record TurmaFacetsResponseDto(
+    @JsonProperty("total")
+    long total,
+    
+    @JsonProperty("porCurso")
+    Map<String, Long> porCurso,
+    
+    @JsonProperty("porPeriodo")
+    Map<Integer, Long> porPeriodo,
+    
+    @JsonProperty("combinacoes")
+    List<TurmaFacetDto> combinacoes
+) {
+    
+    public static TurmaFacetsResponseDto fromFacetCounts(List<TurmaFacetCount> facetCounts) {
+        Map<String, String> nomesPorCurso = new LinkedHashMap<>();
+        for (TurmaFacetCount facetCount : facetCounts) {
+            nomesPorCurso.merge(chaveCurso(facetCount.curso()), facetCount.curso(),
+                (atual, candidato) -> candidato.compareTo(atual) < 0 ? candidato : atual);
+        }
+        
+        List<TurmaFacetCount> rotuladas = facetCounts.stream()
+            .map(facetCount -> new TurmaFacetCount(
+                nomesPorCurso.get(chaveCurso(facetCount.curso())), facetCount.periodo(), facetCount.total()))
+            .toList();
+        
+        Map<String, Long> porCurso = new LinkedHashMap<>();
+        Map<Integer, Long> porPeriodo = new TreeMap<>();
+        long total = 0;
+        
+        for (TurmaFacetCount facetCount : rotuladas) {
+            porCurso.merge(facetCount.curso(), facetCount.total(), Long::sum);
+            porPeriodo.merge(facetCount.periodo(), facetCount.total(), Long::sum);
+            total += facetCount.total();
+        }
+        
+        return new TurmaFacetsResponseDto(
+            total,
+            porCurso,
+            porPeriodo,
+            rotuladas.stream()
+                .map(TurmaFacetDto::fromFacetCount)
+                .toList()
+        );
+    }
+    
+    private static String chaveCurso(String curso) {
+        return curso.toLowerCase(Locale.ROOT);
+    }
+}
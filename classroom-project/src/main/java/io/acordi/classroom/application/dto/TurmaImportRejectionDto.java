@@ -0,0 +1,17 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.acordi.classroom.domain.model.TurmaImportRejection;
+
+public record TurmaImportRejectionDto(
+    @JsonProperty("registro")
+    long registro,
+    
+    @JsonProperty("motivo")
+    String motivo
+) {
+    
+    public static TurmaImportRejectionDto fromRejection(TurmaImportRejection rejection) {
+        return new TurmaImportRejectionDto(rejection.registro(), rejection.motivo());
+    }
+}
@@ -0,0 +1,32 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.acordi.classroom.domain.model.TurmaImportResult;
+
+import java.util.List;
+
+public record TurmaImportResultDto(
+    @JsonProperty("totalRegistros")
+    long totalRegistros,
+    
+    @JsonProperty("importadas")
+    long importadas,
+    
+    @JsonProperty("rejeitadas")
+    long rejeitadas,
+    
+    @JsonProperty("rejeicoes")
+    List<TurmaImportRejectionDto> rejeicoes
+) {
+    
+    public static TurmaImportResultDto fromResult(TurmaImportResult result) {
+        return new TurmaImportResultDto(
+            result.totalRegistros(),
+            result.importadas(),
+            result.rejeitadas(),
+            result.rejeicoes().stream()
+                .map(TurmaImportRejectionDto::fromRejection)
+                .toList()
+        );
+    }
+}
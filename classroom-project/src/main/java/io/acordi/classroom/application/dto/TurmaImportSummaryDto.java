@@ -0,0 +1,19 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record TurmaImportSummaryDto(
+    @JsonProperty("totalRegistros")
+    long totalRegistros,
+    
+    @JsonProperty("importadas")
+    long importadas,
+    
+    @JsonProperty("rejeitadas")
+    long rejeitadas
+) {
+    
+    public static TurmaImportSummaryDto fromResult(TurmaImportResultDto result) {
+        return new TurmaImportSummaryDto(result.totalRegistros(), result.importadas(), result.rejeitadas());
+    }
+}
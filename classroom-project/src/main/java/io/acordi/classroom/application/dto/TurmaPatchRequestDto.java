@@ -0,0 +1,31 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.acordi.classroom.domain.model.TurmaPatch;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+public record TurmaPatchRequestDto(
+    @Size(min = 2, max = 100, message = "Nome deve ter entre 2 e 100 caracteres")
+    @JsonProperty("nome")
+    String nome,
+    
+    @Size(min = 2, max = 100, message = "Curso deve ter entre 2 e 100 caracteres")
+    @JsonProperty("curso")
+    String curso,
+    
+    @Min(value = 1, message = "Período deve ser no mínimo 1")
+    @Max(value = 10, message = "Período deve ser no máximo 10")
+    @JsonProperty("periodo")
+    Integer periodo,
+    
+    @Size(max = 500, message = "Descrição deve ter no máximo 500 caracteres")
+    @JsonProperty("descricao")
+    String descricao
+) {
+    
+    public TurmaPatch toPatch() {
+        return new TurmaPatch(nome, curso, periodo, descricao);
+    }
+}
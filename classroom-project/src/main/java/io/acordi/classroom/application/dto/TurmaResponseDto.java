@@ -2,6 +2,7 @@ package io.acordi.classroom.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.acordi.classroom.domain.model.Turma;
+import io.acordi.classroom.domain.model.TurmaArquivada;
 
 import java.util.Optional;
 
@@ -19,7 +20,10 @@ public record TurmaResponseDto(
     Integer periodo,
     
     @JsonProperty("descricao")
-    String descricao
+    String descricao,
+    
+    @JsonProperty("encerrada")
+    boolean encerrada
 ) {
     
     public static TurmaResponseDto fromEntity(Turma turma) {
@@ -28,7 +32,19 @@ public record TurmaResponseDto(
             turma.getNome(),
             turma.getCurso(),
             turma.getPeriodo(),
-            turma.getDescricao().orElse(null)
+            turma.getDescricao().orElse(null),
+            turma.isEncerrada()
+        );
+    }
+    
+    public static TurmaResponseDto fromArchived(TurmaArquivada turma) {
+        return new TurmaResponseDto(
+            turma.getId(),
+            turma.getNome(),
+            turma.getCurso(),
+            turma.getPeriodo(),
+            turma.getDescricao().orElse(null),
+            turma.isEncerrada()
         );
     }
     
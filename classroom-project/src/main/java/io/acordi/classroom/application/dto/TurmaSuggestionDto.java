@@ -0,0 +1,11 @@
+package io.acordi.classroom.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record TurmaSuggestionDto(
+    @JsonProperty("valor")
+    String valor,
+    
+    @JsonProperty("total")
+    long total
+) {}
@@ -0,0 +1,10 @@
+package io.acordi.classroom.application.event;
+
+public enum TurmaChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    IMPORTED,
+    ARCHIVED,
+    RESTORED
+}
@@ -0,0 +1,19 @@
+package io.acordi.classroom.application.event;
+
+import io.acordi.classroom.application.dto.TurmaImportSummaryDto;
+import io.acordi.classroom.application.dto.TurmaResponseDto;
+
+public record TurmaChangedEvent(
+    TurmaChangeType type,
+    TurmaResponseDto turma,
+    TurmaImportSummaryDto importacao
+) {
+    
+    public TurmaChangedEvent(TurmaChangeType type, TurmaResponseDto turma) {
+        this(type, turma, null);
+    }
+    
+    public static TurmaChangedEvent imported(TurmaImportSummaryDto importacao) {
+        return new TurmaChangedEvent(TurmaChangeType.IMPORTED, null, importacao);
+    }
+}
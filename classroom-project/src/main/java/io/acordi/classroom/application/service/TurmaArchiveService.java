@@ -0,0 +1,149 @@
+package io.acordi.classroom.application.service;
+
+import io.acordi.classroom.application.dto.TurmaResponseDto;
+import io.acordi.classroom.application.event.TurmaChangeType;
+import io.acordi.classroom.application.event.TurmaChangedEvent;
+import io.acordi.classroom.domain.model.Turma;
+import io.acordi.classroom.domain.model.TurmaArquivada;
+import io.acordi.classroom.domain.repository.TurmaArchiveRepository;
+import io.acordi.classroom.domain.repository.TurmaRepository;
+import io.acordi.classroom.infrastructure.exception.TurmaNotFoundException;
+import io.acordi.classroom.infrastructure.exception.TurmaValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class TurmaArchiveService {
+
+    private final TurmaArchiveRepository turmaArchiveRepository;
+    private final TurmaRepository turmaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate batchTransaction;
+    private final boolean enabled;
+    private final int maxAgeDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public TurmaArchiveService(
+            TurmaArchiveRepository turmaArchiveRepository,
+            TurmaRepository turmaRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${classroom.archive.enabled:false}") boolean enabled,
+            @Value("${classroom.archive.max-age-days:1460}") int maxAgeDays,
+            @Value("${classroom.archive.batch-size:500}") int batchSize,
+            @Value("${classroom.archive.max-batches-per-run:100}") int maxBatchesPerRun) {
+
+        this.turmaArchiveRepository = turmaArchiveRepository;
+        this.turmaRepository = turmaRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxAgeDays = maxAgeDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Transactional
+    public TurmaResponseDto closeById(Long id) {
+        log.info("Encerrando turma com ID: {}", id);
+
+        return turmaRepository.findById(id)
+            .map(Turma::encerrar)
+            .map(turmaRepository::save)
+            .map(TurmaResponseDto::fromEntity)
+            .map(turma -> publishChange(TurmaChangeType.UPDATED, turma))
+            .orElseThrow(() -> new TurmaNotFoundException("Turma não encontrada com ID: " + id));
+    }
+
+    @Transactional
+    public TurmaResponseDto archiveById(Long id) {
+        log.info("Arquivando turma com ID: {}", id);
+
+        return turmaArchiveRepository.archiveById(id)
+            .map(TurmaResponseDto::fromArchived)
+            .map(turma -> publishChange(TurmaChangeType.ARCHIVED, turma))
+            .orElseThrow(() -> new TurmaNotFoundException("Turma não encontrada com ID: " + id));
+    }
+
+    @Transactional
+    public TurmaResponseDto restoreById(Long id) {
+        log.info("Restaurando turma arquivada com ID: {}", id);
+
+        TurmaArquivada arquivada = turmaArchiveRepository.findById(id)
+            .orElseThrow(archivedNotFoundById(id));
+        if (turmaRepository.existsByNome(arquivada.getNome())) {
+            throw new TurmaValidationException("Já existe uma turma com o nome: " + arquivada.getNome());
+        }
+
+        return turmaArchiveRepository.restoreById(id)
+            .map(TurmaResponseDto::fromEntity)
+            .map(turma -> publishChange(TurmaChangeType.RESTORED, turma))
+            .orElseThrow(archivedNotFoundById(id));
+    }
+
+    @Transactional(readOnly = true)
+    public TurmaResponseDto findArchivedById(Long id) {
+        log.debug("Buscando turma arquivada por ID: {}", id);
+
+        return turmaArchiveRepository.findById(id)
+            .map(TurmaResponseDto::fromArchived)
+            .orElseThrow(archivedNotFoundById(id));
+    }
+
+    @Scheduled(
+        fixedDelayString = "${classroom.archive.interval-ms:3600000}",
+        initialDelayString = "${classroom.archive.initial-delay-ms:300000}"
+    )
+    public void archiveExpiredOnSchedule() {
+        if (enabled) {
+            archiveExpired();
+        }
+    }
+
+    public long archiveExpired() {
+        long total = 0;
+
+        for (int lote = 0; lote < maxBatchesPerRun; lote++) {
+            int movidas = Optional.ofNullable(batchTransaction.execute(status -> archiveBatch()))
+                .orElse(0);
+            total += movidas;
+            if (movidas < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("{} turmas encerradas ou criadas há mais de {} dias movidas para o arquivo", total, maxAgeDays);
+        }
+        return total;
+    }
+
+    private int archiveBatch() {
+        List<TurmaArquivada> movidas = turmaArchiveRepository.archiveExpiredOrClosed(maxAgeDays, batchSize);
+        movidas.stream()
+            .map(TurmaResponseDto::fromArchived)
+            .forEach(turma -> publishChange(TurmaChangeType.ARCHIVED, turma));
+        return movidas.size();
+    }
+
+    private TurmaResponseDto publishChange(TurmaChangeType type, TurmaResponseDto turma) {
+        eventPublisher.publishEvent(new TurmaChangedEvent(type, turma));
+        return turma;
+    }
+
+    private Supplier<TurmaNotFoundException> archivedNotFoundById(Long id) {
+        return () -> new TurmaNotFoundException("Turma arquivada não encontrada com ID: " + id);
+    }
+}
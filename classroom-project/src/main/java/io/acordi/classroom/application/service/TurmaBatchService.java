@@ -0,0 +1,324 @@
+package io.acordi.classroom.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.acordi.classroom.application.dto.TurmaBatchMode;
+import io.acordi.classroom.application.dto.TurmaBatchOperationDto;
+import io.acordi.classroom.application.dto.TurmaBatchOperationType;
+import io.acordi.classroom.application.dto.TurmaBatchRequestDto;
+import io.acordi.classroom.application.dto.TurmaPatchRequestDto;
+import io.acordi.classroom.application.dto.TurmaRequestDto;
+import io.acordi.classroom.application.dto.TurmaResponseDto;
+import io.acordi.classroom.application.event.TurmaChangeType;
+import io.acordi.classroom.application.event.TurmaChangedEvent;
+import io.acordi.classroom.domain.model.Turma;
+import io.acordi.classroom.domain.model.TurmaPatch;
+import io.acordi.classroom.domain.repository.TurmaRepository;
+import io.acordi.classroom.infrastructure.exception.TurmaBatchAbortedException;
+import io.acordi.classroom.infrastructure.exception.TurmaNotFoundException;
+import io.acordi.classroom.infrastructure.exception.TurmaValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+@Slf4j
+public class TurmaBatchService {
+    
+    private final TurmaService turmaService;
+    private final TurmaRepository turmaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxOperations;
+    
+    public TurmaBatchService(
+            TurmaService turmaService,
+            TurmaRepository turmaRepository,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            @Value("${classroom.batch.max-operations:500}") int maxOperations) {
+        
+        this.turmaService = turmaService;
+        this.turmaRepository = turmaRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxOperations = maxOperations;
+    }
+    
+    public List<Outcome> execute(TurmaBatchRequestDto requestDto) {
+        List<TurmaBatchOperationDto> operacoes = requestDto.operacoes();
+        if (operacoes.size() > maxOperations) {
+            throw new IllegalArgumentException("Um lote pode ter no máximo " + maxOperations + " operações");
+        }
+        
+        log.info("Executando lote de {} operações no modo {}", operacoes.size(), requestDto.modo());
+        
+        return requestDto.modo() == TurmaBatchMode.ATOMIC
+            ? executeAtomic(operacoes)
+            : IntStream.range(0, operacoes.size())
+                .mapToObj(indice -> applySafely(indice, operacoes.get(indice)))
+                .toList();
+    }
+    
+    private List<Outcome> executeAtomic(List<TurmaBatchOperationDto> operacoes) {
+        List<Outcome> executadas = new ArrayList<>(operacoes.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                executadas.addAll(stage(operacoes, status::flush));
+                if (executadas.stream().anyMatch(outcome -> !outcome.sucesso())) {
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao confirmar lote de {} operações: {}", operacoes.size(), ex.getMessage());
+            int indiceFalha = Math.max(executadas.size() - 1, 0);
+            return abort(operacoes, Outcome.failure(indiceFalha, operacoes.get(indiceFalha).tipo(), translate(ex)));
+        }
+        
+        return executadas.stream()
+            .filter(outcome -> !outcome.sucesso())
+            .findFirst()
+            .map(falha -> abort(operacoes, falha))
+            .orElse(executadas);
+    }
+    
+    private List<Outcome> stage(List<TurmaBatchOperationDto> operacoes, Runnable flush) {
+        List<Pending> pendentes = new ArrayList<>(operacoes.size());
+        for (int indice = 0; indice < operacoes.size(); indice++) {
+            try {
+                pendentes.add(prepare(indice, operacoes.get(indice)));
+            } catch (RuntimeException ex) {
+                return List.of(Outcome.failure(indice, operacoes.get(indice).tipo(), translate(ex)));
+            }
+        }
+        
+        Map<Long, Turma> turmas = turmaRepository.findAllById(pendentes.stream()
+                .map(Pending::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Turma::getId, Function.identity(), (a, b) -> a, HashMap::new));
+        Map<String, Long> donosDosNomes = turmaRepository.findByNomesExatos(pendentes.stream()
+                .filter(pendente -> pendente.tipo() == TurmaBatchOperationType.CREATE)
+                .map(pendente -> pendente.requisicao().nome())
+                .toList())
+            .stream()
+            .collect(Collectors.toMap(turma -> chave(turma.getNome()), Turma::getId, (a, b) -> a, HashMap::new));
+        
+        List<Applied> aplicadas = new ArrayList<>(pendentes.size());
+        int inicioGrupo = 0;
+        for (Pending pendente : pendentes) {
+            if (pendente.tipo() != pendentes.get(inicioGrupo).tipo()) {
+                Optional<Outcome> falha = flushGroup(flush, pendentes, inicioGrupo, pendente.indice() - 1);
+                if (falha.isPresent()) {
+                    return List.of(falha.get());
+                }
+                inicioGrupo = pendente.indice();
+            }
+            try {
+                aplicadas.add(stageOperation(pendente, turmas, donosDosNomes));
+            } catch (RuntimeException ex) {
+                log.debug("Operação {} ({}) do lote falhou: {}", pendente.indice(), pendente.tipo(), ex.getMessage());
+                return List.of(Outcome.failure(pendente.indice(), pendente.tipo(), translate(ex)));
+            }
+        }
+        
+        Optional<Outcome> falha = flushGroup(flush, pendentes, inicioGrupo, pendentes.size() - 1);
+        if (falha.isPresent()) {
+            return List.of(falha.get());
+        }
+        return aplicadas.stream()
+            .map(this::publish)
+            .toList();
+    }
+    
+    private Pending prepare(int indice, TurmaBatchOperationDto operacao) {
+        return switch (operacao.tipo()) {
+            case CREATE -> new Pending(indice, operacao.tipo(), null, read(operacao, TurmaRequestDto.class), null);
+            case UPDATE -> new Pending(indice, operacao.tipo(), requireId(operacao), read(operacao, TurmaRequestDto.class), null);
+            case PATCH -> new Pending(indice, operacao.tipo(), requireId(operacao), null, 
+                read(operacao, TurmaPatchRequestDto.class).toPatch());
+            case DELETE -> new Pending(indice, operacao.tipo(), requireId(operacao), null, null);
+        };
+    }
+    
+    private Applied stageOperation(Pending pendente, Map<Long, Turma> turmas, Map<String, Long> donosDosNomes) {
+        if (pendente.tipo() == TurmaBatchOperationType.CREATE) {
+            TurmaRequestDto requisicao = pendente.requisicao();
+            if (donosDosNomes.containsKey(chave(requisicao.nome()))) {
+                throw new TurmaValidationException("Já existe uma turma com o nome: " + requisicao.nome());
+            }
+            Turma turma = turmaRepository.save(requisicao.toEntity());
+            donosDosNomes.put(chave(turma.getNome()), turma.getId());
+            return new Applied(pendente.indice(), pendente.tipo(), turma);
+        }
+        
+        Turma turma = Optional.ofNullable(turmas.get(pendente.id()))
+            .orElseThrow(() -> new TurmaNotFoundException("Turma não encontrada com ID: " + pendente.id()));
+        donosDosNomes.values().removeIf(pendente.id()::equals);
+        
+        switch (pendente.tipo()) {
+            case UPDATE -> turma.atualizarInformacoes(
+                pendente.requisicao().nome(),
+                pendente.requisicao().curso(),
+                pendente.requisicao().periodo(),
+                pendente.requisicao().descricao());
+            case PATCH -> turma.aplicar(pendente.patch());
+            case DELETE -> {
+                turmas.remove(pendente.id());
+                turmaRepository.delete(turma);
+                return new Applied(pendente.indice(), pendente.tipo(), turma);
+            }
+            default -> throw new IllegalStateException("Tipo de operação inesperado: " + pendente.tipo());
+        }
+        donosDosNomes.put(chave(turma.getNome()), turma.getId());
+        return new Applied(pendente.indice(), pendente.tipo(), turma);
+    }
+    
+    private static Optional<Outcome> flushGroup(Runnable flush, List<Pending> pendentes, int inicio, int fim) {
+        try {
+            flush.run();
+            return Optional.empty();
+        } catch (RuntimeException ex) {
+            log.debug("Operações {} a {} ({}) do lote falharam ao serem enviadas ao banco: {}", 
+                inicio, fim, pendentes.get(inicio).tipo(), ex.getMessage());
+            RuntimeException erro = inicio == fim || !(ex instanceof DataIntegrityViolationException)
+                ? translate(ex)
+                : new TurmaValidationException("Os dados de uma das operações " + inicio + " a " + fim 
+                    + " violam uma restrição de integridade das turmas");
+            return Optional.of(Outcome.failure(inicio, pendentes.get(inicio).tipo(), erro));
+        }
+    }
+    
+    private Outcome publish(Applied aplicada) {
+        TurmaResponseDto turma = TurmaResponseDto.fromEntity(aplicada.turma());
+        eventPublisher.publishEvent(new TurmaChangedEvent(switch (aplicada.tipo()) {
+            case CREATE -> TurmaChangeType.CREATED;
+            case UPDATE, PATCH -> TurmaChangeType.UPDATED;
+            case DELETE -> TurmaChangeType.DELETED;
+        }, turma));
+        return new Outcome(aplicada.indice(), aplicada.tipo(), 
+            aplicada.tipo() == TurmaBatchOperationType.DELETE ? null : turma, null);
+    }
+    
+    private static String chave(String nome) {
+        return nome.toLowerCase(Locale.ROOT);
+    }
+    
+    private static List<Outcome> abort(List<TurmaBatchOperationDto> operacoes, Outcome falha) {
+        TurmaBatchAbortedException desfeita = new TurmaBatchAbortedException(
+            "Operação não aplicada: a operação " + falha.indice() + " falhou e o lote foi desfeito");
+        
+        return IntStream.range(0, operacoes.size())
+            .mapToObj(indice -> indice == falha.indice() 
+                ? falha 
+                : Outcome.failure(indice, operacoes.get(indice).tipo(), desfeita))
+            .toList();
+    }
+    
+    private Outcome applySafely(int indice, TurmaBatchOperationDto operacao) {
+        try {
+            TurmaResponseDto turma = apply(operacao);
+            return new Outcome(indice, operacao.tipo(), turma, null);
+        } catch (RuntimeException ex) {
+            log.debug("Operação {} ({}) do lote falhou: {}", indice, operacao.tipo(), ex.getMessage());
+            return Outcome.failure(indice, operacao.tipo(), translate(ex));
+        }
+    }
+    
+    private static RuntimeException translate(RuntimeException ex) {
+        return ex instanceof DataIntegrityViolationException
+            ? new TurmaValidationException("Os dados da operação violam uma restrição de integridade das turmas")
+            : ex;
+    }
+    
+    private TurmaResponseDto apply(TurmaBatchOperationDto operacao) {
+        return switch (operacao.tipo()) {
+            case CREATE -> turmaService.createTurma(read(operacao, TurmaRequestDto.class));
+            case UPDATE -> turmaService.updateTurma(requireId(operacao), read(operacao, TurmaRequestDto.class));
+            case PATCH -> turmaService.patchTurma(requireId(operacao), read(operacao, TurmaPatchRequestDto.class));
+            case DELETE -> {
+                turmaService.deleteById(requireId(operacao));
+                yield null;
+            }
+        };
+    }
+    
+    private <T> T read(TurmaBatchOperationDto operacao, Class<T> type) {
+        if (operacao.dados() == null || operacao.dados().isNull()) {
+            throw new IllegalArgumentException("Operação " + operacao.tipo() + " requer o campo 'dados'");
+        }
+        
+        T dados;
+        try {
+            dados = objectMapper.treeToValue(operacao.dados(), type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Dados inválidos para a operação " + operacao.tipo() 
+                + ": " + ex.getOriginalMessage());
+        }
+        
+        Set<ConstraintViolation<T>> violacoes = validator.validate(dados);
+        if (!violacoes.isEmpty()) {
+            throw new ConstraintViolationException(violacoes);
+        }
+        return dados;
+    }
+    
+    private static Long requireId(TurmaBatchOperationDto operacao) {
+        return Optional.ofNullable(operacao.id())
+            .orElseThrow(() -> new IllegalArgumentException("Operação " + operacao.tipo() + " requer o campo 'id'"));
+    }
+    
+    private record Pending(
+        int indice,
+        TurmaBatchOperationType tipo,
+        Long id,
+        TurmaRequestDto requisicao,
+        TurmaPatch patch
+    ) {
+    }
+    
+    private record Applied(int indice, TurmaBatchOperationType tipo, Turma turma) {
+    }
+    
+    public record Outcome(
+        int indice,
+        TurmaBatchOperationType tipo,
+        TurmaResponseDto turma,
+        RuntimeException erro
+    ) {
+        
+        static Outcome failure(int indice, TurmaBatchOperationType tipo, RuntimeException erro) {
+            return new Outcome(indice, tipo, null, erro);
+        }
+        
+        public boolean sucesso() {
+            return erro == null;
+        }
+    }
+}
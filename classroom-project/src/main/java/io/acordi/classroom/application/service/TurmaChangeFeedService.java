@@ -0,0 +1,107 @@
+package io.acordi.classroom.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.acordi.classroom.application.dto.TurmaChangeEventDto;
+import io.acordi.classroom.application.event.TurmaChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class TurmaChangeFeedService {
+
+    private static final String RESET_EVENT = "reset";
+
+    private final ObjectMapper objectMapper;
+    private final int replayCapacity;
+    private final ArrayDeque<FeedEntry> replayBuffer;
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private long lastSequence;
+
+    public TurmaChangeFeedService(
+            ObjectMapper objectMapper,
+            @Value("${classroom.feed.replay-capacity:1024}") int replayCapacity) {
+
+        this.objectMapper = objectMapper;
+        this.replayCapacity = replayCapacity;
+        this.replayBuffer = new ArrayDeque<>(replayCapacity);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTurmaChanged(TurmaChangedEvent event) {
+        long sequence = ++lastSequence;
+        FeedEntry entry = new FeedEntry(
+            sequence,
+            event.type().name().toLowerCase(Locale.ROOT),
+            serialize(new TurmaChangeEventDto(sequence, event.type(), event.turma(), event.importacao()))
+        );
+
+        if (replayBuffer.size() == replayCapacity) {
+            replayBuffer.removeFirst();
+        }
+        replayBuffer.addLast(entry);
+        List.copyOf(subscribers).stream()
+            .filter(subscriber -> !subscriber.offer(entry))
+            .forEach(subscribers::remove);
+    }
+
+    public synchronized boolean subscribe(Optional<Long> lastEventId, Subscriber subscriber) {
+        log.debug("Nova inscrição no feed de turmas a partir da sequência: {}", lastEventId);
+
+        boolean resetRequired = lastEventId.filter(this::isOutsideReplayWindow).isPresent();
+        List<FeedEntry> replay = resetRequired
+            ? List.of(resetEntry())
+            : lastEventId.map(this::entriesAfter).orElse(List.of());
+
+        boolean delivered = replay.stream().allMatch(subscriber::offer);
+        if (delivered) {
+            subscribers.add(subscriber);
+        }
+        return delivered;
+    }
+
+    public synchronized void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    private boolean isOutsideReplayWindow(long lastEventId) {
+        long oldestAvailable = Optional.ofNullable(replayBuffer.peekFirst())
+            .map(FeedEntry::sequence)
+            .orElse(lastSequence + 1);
+        return lastEventId > lastSequence || lastEventId < oldestAvailable - 1;
+    }
+
+    private List<FeedEntry> entriesAfter(long lastEventId) {
+        return replayBuffer.stream()
+            .filter(entry -> entry.sequence() > lastEventId)
+            .toList();
+    }
+
+    private FeedEntry resetEntry() {
+        return new FeedEntry(lastSequence, RESET_EVENT, "{\"sequence\":" + lastSequence + "}");
+    }
+
+    private String serialize(TurmaChangeEventDto event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Falha ao serializar evento de alteração de turma", ex);
+        }
+    }
+
+    public interface Subscriber {
+
+        boolean offer(FeedEntry entry);
+    }
+
+    public record FeedEntry(long sequence, String name, String payload) {}
+}
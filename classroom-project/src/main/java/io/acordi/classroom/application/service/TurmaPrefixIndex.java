@@ -0,0 +1,145 @@
+package io.acordi.classroom.application.service;
+
+import io.acordi.classroom.application.dto.TurmaSuggestionDto;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+final class TurmaPrefixIndex {
+    
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final int CACHED_PREFIX_LENGTH = 3;
+    private static final int CACHED_LIMIT = 50;
+    
+    private static final Comparator<TurmaSuggestionDto> RANKING = Comparator
+        .comparingLong(TurmaSuggestionDto::total).reversed()
+        .thenComparing(TurmaSuggestionDto::valor, String.CASE_INSENSITIVE_ORDER);
+    
+    private final ConcurrentSkipListMap<String, String> keys = new ConcurrentSkipListMap<>();
+    private final Map<String, Term> terms = new ConcurrentHashMap<>();
+    private final Map<String, List<TurmaSuggestionDto>> topByPrefix = new ConcurrentHashMap<>();
+    
+    synchronized void add(String valor) {
+        String folded = fold(valor);
+        if (folded.isEmpty()) {
+            return;
+        }
+        
+        invalidate(folded);
+        Term term = terms.get(folded);
+        if (term != null) {
+            term.total++;
+            return;
+        }
+        
+        terms.put(folded, new Term(valor.trim()));
+        wordStarts(folded).forEach(start -> keys.put(folded.substring(start) + KEY_SEPARATOR + folded, folded));
+    }
+    
+    synchronized void remove(String valor) {
+        String folded = fold(valor);
+        Term term = terms.get(folded);
+        if (term == null) {
+            return;
+        }
+        
+        invalidate(folded);
+        if (--term.total == 0) {
+            terms.remove(folded);
+            wordStarts(folded).forEach(start -> keys.remove(folded.substring(start) + KEY_SEPARATOR + folded));
+        }
+    }
+    
+    List<TurmaSuggestionDto> suggest(String prefix, int limit) {
+        String folded = fold(prefix);
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+        
+        if (folded.length() > CACHED_PREFIX_LENGTH || limit > CACHED_LIMIT) {
+            return rank(folded, limit);
+        }
+        
+        List<TurmaSuggestionDto> top = Optional.ofNullable(topByPrefix.get(folded))
+            .orElseGet(() -> cacheTop(folded));
+        return top.subList(0, Math.min(limit, top.size()));
+    }
+    
+    private synchronized List<TurmaSuggestionDto> cacheTop(String folded) {
+        return topByPrefix.computeIfAbsent(folded, key -> rank(key, CACHED_LIMIT));
+    }
+    
+    private List<TurmaSuggestionDto> rank(String folded, int limit) {
+        Set<String> matches = new HashSet<>(keys.subMap(folded, true, folded + Character.MAX_VALUE, false).values());
+        
+        PriorityQueue<TurmaSuggestionDto> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (String match : matches) {
+            Term term = terms.get(match);
+            if (term == null) {
+                continue;
+            }
+            top.offer(new TurmaSuggestionDto(term.valor(), term.total()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        
+        return top.stream()
+            .sorted(RANKING)
+            .toList();
+    }
+    
+    private void invalidate(String folded) {
+        wordStarts(folded).forEach(start -> IntStream
+            .rangeClosed(1, Math.min(CACHED_PREFIX_LENGTH, folded.length() - start))
+            .forEach(length -> topByPrefix.remove(folded.substring(start, start + length))));
+    }
+    
+    int size() {
+        return terms.size();
+    }
+    
+    static String fold(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        String semAcentos = MARKS.matcher(Normalizer.normalize(valor, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(semAcentos.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+    
+    private static IntStream wordStarts(String folded) {
+        return IntStream.range(0, folded.length())
+            .filter(i -> i == 0 || folded.charAt(i - 1) == ' ');
+    }
+    
+    private static final class Term {
+        
+        private final String valor;
+        private volatile long total = 1;
+        
+        private Term(String valor) {
+            this.valor = valor;
+        }
+        
+        String valor() {
+            return valor;
+        }
+        
+        long total() {
+            return total;
+        }
+    }
+}
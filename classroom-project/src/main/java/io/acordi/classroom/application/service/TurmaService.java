@@ -1,17 +1,30 @@
 package io.acordi.classroom.application.service;
 
+import io.acordi.classroom.application.dto.TurmaFacetsResponseDto;
+import io.acordi.classroom.application.dto.TurmaImportResultDto;
+import io.acordi.classroom.application.dto.TurmaImportSummaryDto;
+import io.acordi.classroom.application.dto.TurmaPatchRequestDto;
 import io.acordi.classroom.application.dto.TurmaRequestDto;
 import io.acordi.classroom.application.dto.TurmaResponseDto;
+import io.acordi.classroom.application.event.TurmaChangeType;
+import io.acordi.classroom.application.event.TurmaChangedEvent;
 import io.acordi.classroom.domain.model.Turma;
+import io.acordi.classroom.domain.model.TurmaField;
+import io.acordi.classroom.domain.repository.TurmaArchiveRepository;
+import io.acordi.classroom.domain.repository.TurmaImportRepository;
 import io.acordi.classroom.domain.repository.TurmaRepository;
+import io.acordi.classroom.infrastructure.exception.TurmaImportInterruptedException;
 import io.acordi.classroom.infrastructure.exception.TurmaNotFoundException;
 import io.acordi.classroom.infrastructure.exception.TurmaValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -23,6 +36,9 @@ import java.util.stream.Collectors;
 public class TurmaService {
     
     private final TurmaRepository turmaRepository;
+    private final TurmaImportRepository turmaImportRepository;
+    private final TurmaArchiveRepository turmaArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public TurmaResponseDto createTurma(TurmaRequestDto requestDto) {
@@ -33,6 +49,7 @@ public class TurmaService {
             .map(TurmaRequestDto::toEntity)
             .map(turmaRepository::save)
             .map(TurmaResponseDto::fromEntity)
+            .map(turma -> publishChange(TurmaChangeType.CREATED, turma))
             .orElseThrow(() -> new TurmaValidationException(
                 "Já existe uma turma com o nome: " + requestDto.nome()));
     }
@@ -93,7 +110,7 @@ public class TurmaService {
         
         return buscarTurmasOuFalhar(
             () -> turmaRepository.findByCursoAndPeriodo(curso, periodo),
-            () -> String.format("Nenhuma turma encontrada para curso '%s' e período %d", curso, periodo)
+            () -> "Nenhuma turma encontrada para curso '" + curso + "' e período " + periodo
         );
     }
     
@@ -112,6 +129,48 @@ public class TurmaService {
             .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
+    public List<TurmaResponseDto> findWithFiltersIncludingArchived(
+            Optional<String> nome, Optional<String> curso, Optional<Integer> periodo) {
+        log.debug("Buscando turmas ativas e arquivadas - nome: {}, curso: {}, período: {}", nome, curso, periodo);
+        
+        String nomeParam = nome.filter(n -> !n.trim().isEmpty()).orElse(null);
+        String cursoParam = curso.filter(c -> !c.trim().isEmpty()).orElse(null);
+        Integer periodoParam = periodo.orElse(null);
+        
+        return turmaArchiveRepository.findInAllTiersWithFilters(nomeParam, cursoParam, periodoParam)
+            .stream()
+            .map(TurmaResponseDto::fromEntity)
+            .collect(Collectors.toList());
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFieldsWithFiltersIncludingArchived(
+            String fields, Optional<String> nome, Optional<String> curso, Optional<Integer> periodo) {
+        log.debug("Buscando campos {} de turmas ativas e arquivadas - nome: {}, curso: {}, período: {}", 
+            fields, nome, curso, periodo);
+        
+        List<TurmaField> campos = TurmaField.parseList(fields);
+        String nomeParam = nome.filter(n -> !n.trim().isEmpty()).orElse(null);
+        String cursoParam = curso.filter(c -> !c.trim().isEmpty()).orElse(null);
+        Integer periodoParam = periodo.orElse(null);
+        
+        return turmaArchiveRepository.findFieldsInAllTiersWithFilters(campos, nomeParam, cursoParam, periodoParam);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFieldsWithFilters(
+            String fields, Optional<String> nome, Optional<String> curso, Optional<Integer> periodo) {
+        log.debug("Buscando campos {} de turmas - nome: {}, curso: {}, período: {}", fields, nome, curso, periodo);
+        
+        return turmaRepository.findFieldsWithFilters(
+            TurmaField.parseList(fields),
+            nome.filter(n -> !n.trim().isEmpty()).orElse(null),
+            curso.filter(c -> !c.trim().isEmpty()).orElse(null),
+            periodo.orElse(null)
+        );
+    }
+    
     @Transactional(readOnly = true)
     public long countByCurso(String curso) {
         log.debug("Contando turmas por curso: {}", curso);
@@ -124,6 +183,17 @@ public class TurmaService {
         return turmaRepository.countByPeriodo(periodo);
     }
     
+    @Transactional(readOnly = true)
+    public TurmaFacetsResponseDto countFacets(Optional<String> nome, Optional<String> curso, Optional<Integer> periodo) {
+        log.debug("Contando facetas de turmas - nome: {}, curso: {}, período: {}", nome, curso, periodo);
+        
+        return TurmaFacetsResponseDto.fromFacetCounts(turmaRepository.countFacets(
+            nome.filter(n -> !n.trim().isEmpty()).orElse(null),
+            curso.filter(c -> !c.trim().isEmpty()).orElse(null),
+            periodo.orElse(null)
+        ));
+    }
+    
     @Transactional
     public void deleteById(Long id) {
         log.info("Deletando turma com ID: {}", id);
@@ -132,6 +202,7 @@ public class TurmaService {
             .ifPresentOrElse(
                 turma -> {
                     turmaRepository.delete(turma);
+                    publishChange(TurmaChangeType.DELETED, TurmaResponseDto.fromEntity(turma));
                     log.info("Turma deletada com sucesso: {}", turma);
                 },
                 () -> {
@@ -153,9 +224,49 @@ public class TurmaService {
             ))
             .map(turmaRepository::save)
             .map(TurmaResponseDto::fromEntity)
+            .map(turma -> publishChange(TurmaChangeType.UPDATED, turma))
             .orElseThrow(turmaNotFoundById(id));
     }
     
+    @Transactional
+    public TurmaResponseDto patchTurma(Long id, TurmaPatchRequestDto requestDto) {
+        log.info("Atualizando parcialmente turma com ID: {}", id);
+        
+        return turmaRepository.patch(id, requestDto.toPatch())
+            .map(TurmaResponseDto::fromEntity)
+            .map(turma -> publishChange(TurmaChangeType.UPDATED, turma))
+            .orElseThrow(turmaNotFoundById(id));
+    }
+    
+    public TurmaImportResultDto importCsv(InputStream csv) {
+        log.info("Importando turmas a partir de arquivo CSV");
+        
+        TurmaImportResultDto result;
+        try {
+            result = TurmaImportResultDto.fromResult(turmaImportRepository.importCsv(csv));
+        } catch (TurmaImportInterruptedException ex) {
+            log.warn("Importação interrompida - turmas já importadas: {}", ex.getParcial().importadas());
+            publishImported(TurmaImportResultDto.fromResult(ex.getParcial()));
+            throw ex;
+        }
+        log.info("Importação concluída - registros: {}, importadas: {}, rejeitadas: {}", 
+            result.totalRegistros(), result.importadas(), result.rejeitadas());
+        
+        publishImported(result);
+        return result;
+    }
+    
+    private void publishImported(TurmaImportResultDto result) {
+        if (result.importadas() > 0) {
+            eventPublisher.publishEvent(TurmaChangedEvent.imported(TurmaImportSummaryDto.fromResult(result)));
+        }
+    }
+    
+    private TurmaResponseDto publishChange(TurmaChangeType type, TurmaResponseDto turma) {
+        eventPublisher.publishEvent(new TurmaChangedEvent(type, turma));
+        return turma;
+    }
+    
     private boolean naoExisteNomeDuplicado(TurmaRequestDto requestDto) {
         return !turmaRepository.existsByNome(requestDto.nome());
     }
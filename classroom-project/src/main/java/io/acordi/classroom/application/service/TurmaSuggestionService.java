@@ -0,0 +1,158 @@
+package io.acordi.classroom.application.service;
+
+import io.acordi.classroom.application.dto.TurmaResponseDto;
+import io.acordi.classroom.application.dto.TurmaSuggestionDto;
+import io.acordi.classroom.application.event.TurmaChangeType;
+import io.acordi.classroom.application.event.TurmaChangedEvent;
+import io.acordi.classroom.domain.model.TurmaField;
+import io.acordi.classroom.domain.repository.TurmaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+@Slf4j
+public class TurmaSuggestionService {
+    
+    private static final int PROGRESS_INTERVAL = 100_000;
+    
+    private final TurmaRepository turmaRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService rebuilder;
+    private final Object rebuildLock = new Object();
+    
+    private volatile Indexes indexes = new Indexes();
+    private List<TurmaChangedEvent> pendingDuringRebuild;
+    
+    public TurmaSuggestionService(TurmaRepository turmaRepository, PlatformTransactionManager transactionManager) {
+        this.turmaRepository = turmaRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "turma-suggestion-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    public List<TurmaSuggestionDto> suggest(String campo, String prefix, int limit) {
+        log.debug("Buscando sugestões para {} com prefixo: {}", campo, prefix);
+        
+        return switch (TurmaField.fromAttribute(campo)) {
+            case NOME -> indexes.nomes.suggest(prefix, limit);
+            case CURSO -> indexes.cursos.suggest(prefix, limit);
+            default -> throw new IllegalArgumentException("Sugestões disponíveis apenas para os campos: nome, curso");
+        };
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        log.info("Montando índice de sugestões em segundo plano; sugestões ficam vazias até a conclusão");
+        rebuildInBackground();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTurmaChanged(TurmaChangedEvent event) {
+        if (event.type() == TurmaChangeType.IMPORTED) {
+            rebuildInBackground();
+            return;
+        }
+        
+        synchronized (this) {
+            apply(indexes, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        }
+    }
+    
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            
+            Indexes rebuilt = new Indexes();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> turmaRepository.findAllAsStream()
+                    .forEach(turma -> {
+                        rebuilt.index(turma.getId(), turma.getNome(), turma.getCurso());
+                        if (rebuilt.turmas.size() % PROGRESS_INTERVAL == 0) {
+                            log.info("Índice de sugestões em construção - turmas lidas: {}", rebuilt.turmas.size());
+                        }
+                    }));
+            } catch (RuntimeException ex) {
+                synchronized (this) {
+                    pendingDuringRebuild = null;
+                }
+                throw ex;
+            }
+            
+            synchronized (this) {
+                pendingDuringRebuild.forEach(event -> apply(rebuilt, event));
+                pendingDuringRebuild = null;
+                indexes = rebuilt;
+            }
+            log.info("Índice de sugestões reconstruído - turmas: {}, nomes: {}, cursos: {}", 
+                rebuilt.turmas.size(), rebuilt.nomes.size(), rebuilt.cursos.size());
+        }
+    }
+    
+    private void rebuildInBackground() {
+        rebuilder.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException ex) {
+                log.error("Falha ao reconstruir o índice de sugestões; mantendo o índice atual", ex);
+            }
+        });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+    
+    private static void apply(Indexes target, TurmaChangedEvent event) {
+        TurmaResponseDto turma = event.turma();
+        Optional.ofNullable(target.turmas.remove(turma.id())).ifPresent(target::unindex);
+        if (event.type() != TurmaChangeType.DELETED && event.type() != TurmaChangeType.ARCHIVED) {
+            target.index(turma.id(), turma.nome(), turma.curso());
+        }
+    }
+    
+    private static final class Indexes {
+        
+        private final Map<Long, IndexedTurma> turmas = new HashMap<>();
+        private final TurmaPrefixIndex nomes = new TurmaPrefixIndex();
+        private final TurmaPrefixIndex cursos = new TurmaPrefixIndex();
+        
+        void index(Long id, String nome, String curso) {
+            turmas.put(id, new IndexedTurma(nome, curso));
+            nomes.add(nome);
+            cursos.add(curso);
+        }
+        
+        void unindex(IndexedTurma turma) {
+            nomes.remove(turma.nome());
+            cursos.remove(turma.curso());
+        }
+    }
+    
+    private record IndexedTurma(String nome, String curso) {}
+}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -16,7 +19,8 @@ import java.util.Optional;
 public class Turma {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "turmas_id_seq")
+    @SequenceGenerator(name = "turmas_id_seq", sequenceName = "turmas_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 100)
@@ -30,6 +34,18 @@ public class Turma {
     
     @Column(length = 500)
     private String descricao;
+    
+    @CreationTimestamp
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "criada_em", nullable = false, updatable = false)
+    private LocalDateTime criadaEm;
+    
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean encerrada;
+    
+    @Column(name = "restaurada_em")
+    private LocalDateTime restauradaEm;
 
     private Turma(String nome, String curso, Integer periodo, String descricao) {
         this.nome = validarNome(nome);
@@ -54,6 +70,21 @@ public class Turma {
         return this;
     }
 
+    public Turma aplicar(TurmaPatch patch) {
+        Optional.ofNullable(patch.nome()).ifPresent(nome -> this.nome = nome);
+        Optional.ofNullable(patch.curso()).ifPresent(curso -> this.curso = curso);
+        Optional.ofNullable(patch.periodo()).ifPresent(periodo -> this.periodo = periodo);
+        Optional.ofNullable(patch.descricao())
+            .ifPresent(descricao -> this.descricao = patch.limpaDescricao() ? null : descricao);
+        return this;
+    }
+
+    public Turma encerrar() {
+        this.encerrada = true;
+        this.restauradaEm = null;
+        return this;
+    }
+
     public Optional<String> getDescricao() {
         return Optional.ofNullable(descricao);
     }
@@ -74,21 +105,21 @@ public class Turma {
         return Objects.equals(this.periodo, periodo);
     }
 
-    private String validarNome(String nome) {
+    static String validarNome(String nome) {
         return Optional.ofNullable(nome)
             .filter(n -> !n.trim().isEmpty())
             .map(String::trim)
             .orElseThrow(() -> new IllegalArgumentException("Nome não pode ser nulo ou vazio"));
     }
 
-    private String validarCurso(String curso) {
+    static String validarCurso(String curso) {
         return Optional.ofNullable(curso)
             .filter(c -> !c.trim().isEmpty())
             .map(String::trim)
             .orElseThrow(() -> new IllegalArgumentException("Curso não pode ser nulo ou vazio"));
     }
 
-    private Integer validarPeriodo(Integer periodo) {
+    static Integer validarPeriodo(Integer periodo) {
         return Optional.ofNullable(periodo)
             .filter(p -> p > 0 && p <= 10)
             .orElseThrow(() -> new IllegalArgumentException("Período deve estar entre 1 e 10"));
@@ -0,0 +1,52 @@
+package io.acordi.classroom.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Entity
+@Table(name = "turmas_arquivadas")
+@Immutable
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TurmaArquivada {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false, length = 100)
+    private String nome;
+    
+    @Column(nullable = false, length = 100)
+    private String curso;
+    
+    @Column(nullable = false)
+    private Integer periodo;
+    
+    @Column(length = 500)
+    private String descricao;
+    
+    @Column(name = "criada_em", nullable = false)
+    private LocalDateTime criadaEm;
+    
+    @Column(name = "arquivada_em", nullable = false)
+    private LocalDateTime arquivadaEm;
+    
+    @Column(nullable = false)
+    private boolean encerrada;
+    
+    public Optional<String> getDescricao() {
+        return Optional.ofNullable(descricao);
+    }
+}
@@ -0,0 +1,7 @@
+package io.acordi.classroom.domain.model;
+
+public record TurmaFacetCount(
+    String curso,
+    Integer periodo,
+    Long total
+) {}
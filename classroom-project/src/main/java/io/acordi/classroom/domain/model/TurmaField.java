@@ -0,0 +1,48 @@
+package io.acordi.classroom.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public enum TurmaField {
+    ID("id"),
+    NOME("nome"),
+    CURSO("curso"),
+    PERIODO("periodo"),
+    DESCRICAO("descricao");
+    
+    private static final String PERMITIDOS = Arrays.stream(values())
+        .map(TurmaField::attribute)
+        .collect(Collectors.joining(", "));
+    
+    private final String attribute;
+    
+    TurmaField(String attribute) {
+        this.attribute = attribute;
+    }
+    
+    public String attribute() {
+        return attribute;
+    }
+    
+    public static TurmaField fromAttribute(String attribute) {
+        return Arrays.stream(values())
+            .filter(field -> field.attribute.equalsIgnoreCase(attribute.trim()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Campo inválido: " + attribute + ". Campos permitidos: " + PERMITIDOS));
+    }
+    
+    public static List<TurmaField> parseList(String fields) {
+        List<TurmaField> parsed = Arrays.stream(fields.split(","))
+            .filter(field -> !field.trim().isEmpty())
+            .map(TurmaField::fromAttribute)
+            .distinct()
+            .toList();
+        
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um campo. Campos permitidos: " + PERMITIDOS);
+        }
+        return parsed;
+    }
+}
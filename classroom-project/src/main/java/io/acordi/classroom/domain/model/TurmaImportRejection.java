@@ -0,0 +1,6 @@
+package io.acordi.classroom.domain.model;
+
+public record TurmaImportRejection(
+    long registro,
+    String motivo
+) {}
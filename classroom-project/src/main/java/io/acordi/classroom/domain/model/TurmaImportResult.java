@@ -0,0 +1,10 @@
+package io.acordi.classroom.domain.model;
+
+import java.util.List;
+
+public record TurmaImportResult(
+    long totalRegistros,
+    long importadas,
+    long rejeitadas,
+    List<TurmaImportRejection> rejeicoes
+) {}
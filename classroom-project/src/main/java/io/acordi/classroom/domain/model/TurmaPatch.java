@@ -0,0 +1,27 @@
+package io.acordi.classroom.domain.model;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public record TurmaPatch(
+    String nome,
+    String curso,
+    Integer periodo,
+    String descricao
+) {
+    
+    public TurmaPatch {
+        nome = Optional.ofNullable(nome).map(Turma::validarNome).orElse(null);
+        curso = Optional.ofNullable(curso).map(Turma::validarCurso).orElse(null);
+        periodo = Optional.ofNullable(periodo).map(Turma::validarPeriodo).orElse(null);
+        descricao = Optional.ofNullable(descricao).map(String::trim).orElse(null);
+        
+        if (Stream.of(nome, curso, periodo, descricao).allMatch(value -> value == null)) {
+            throw new IllegalArgumentException("Informe ao menos um campo para atualização");
+        }
+    }
+    
+    public boolean limpaDescricao() {
+        return descricao != null && descricao.isEmpty();
+    }
+}
@@ -0,0 +1,25 @@
+package io.acordi.classroom.domain.repository;
+
+import io.acordi.classroom.domain.model.Turma;
+import io.acordi.classroom.domain.model.TurmaArquivada;
+import io.acordi.classroom.domain.model.TurmaField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface TurmaArchiveRepository {
+    
+    List<TurmaArquivada> archiveExpiredOrClosed(int maxAgeDays, int batchSize);
+    
+    Optional<TurmaArquivada> archiveById(Long id);
+    
+    Optional<Turma> restoreById(Long id);
+    
+    Optional<TurmaArquivada> findById(Long id);
+    
+    List<Turma> findInAllTiersWithFilters(String nome, String curso, Integer periodo);
+    
+    List<Map<String, Object>> findFieldsInAllTiersWithFilters(
+        List<TurmaField> fields, String nome, String curso, Integer periodo);
+}
@@ -0,0 +1,10 @@
+package io.acordi.classroom.domain.repository;
+
+import io.acordi.classroom.domain.model.TurmaImportResult;
+
+import java.io.InputStream;
+
+public interface TurmaImportRepository {
+    
+    TurmaImportResult importCsv(InputStream csv);
+}
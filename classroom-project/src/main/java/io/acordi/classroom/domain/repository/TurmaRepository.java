@@ -1,8 +1,13 @@
 package io.acordi.classroom.domain.repository;
 
 import io.acordi.classroom.domain.model.Turma;
+import io.acordi.classroom.domain.model.TurmaFacetCount;
+import io.acordi.classroom.domain.model.TurmaField;
+import io.acordi.classroom.domain.model.TurmaPatch;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -10,10 +15,14 @@ public interface TurmaRepository {
     
     Turma save(Turma turma);
     
+    Optional<Turma> patch(Long id, TurmaPatch patch);
+    
     Optional<Turma> findById(Long id);
     
     List<Turma> findAll();
     
+    List<Turma> findAllById(Collection<Long> ids);
+    
     Stream<Turma> findAllAsStream();
     
     List<Turma> findByNomeContaining(String nome);
@@ -24,14 +33,20 @@ public interface TurmaRepository {
     
     Optional<Turma> findByNomeExato(String nome);
     
+    List<Turma> findByNomesExatos(Collection<String> nomes);
+    
     List<Turma> findByCursoAndPeriodo(String curso, Integer periodo);
     
     List<Turma> findWithFilters(String nome, String curso, Integer periodo);
     
+    List<Map<String, Object>> findFieldsWithFilters(List<TurmaField> fields, String nome, String curso, Integer periodo);
+    
     long countByCurso(String curso);
     
     long countByPeriodo(Integer periodo);
     
+    List<TurmaFacetCount> countFacets(String nome, String curso, Integer periodo);
+    
     boolean existsByNome(String nome);
     
     boolean existsById(Long id);
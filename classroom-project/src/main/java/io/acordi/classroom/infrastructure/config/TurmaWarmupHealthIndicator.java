@@ -0,0 +1,47 @@
+package io.acordi.classroom.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TurmaWarmupHealthIndicator implements HealthIndicator {
+
+    private final boolean enabled;
+    private final boolean failOnError;
+
+    private volatile Health health = Health.outOfService()
+        .withDetail("estado", "em andamento")
+        .build();
+
+    public TurmaWarmupHealthIndicator(
+            @Value("${classroom.warmup.enabled:true}") boolean enabled,
+            @Value("${classroom.warmup.fail-on-error:false}") boolean failOnError) {
+        this.enabled = enabled;
+        this.failOnError = failOnError;
+    }
+
+    @Override
+    public Health health() {
+        return enabled
+            ? health
+            : Health.up().withDetail("estado", "desabilitado").build();
+    }
+
+    void completed(long duracaoMillis, int rodadas) {
+        health = Health.up()
+            .withDetail("estado", "concluído")
+            .withDetail("duracaoMs", duracaoMillis)
+            .withDetail("rodadas", rodadas)
+            .build();
+    }
+
+    void failed(long duracaoMillis, RuntimeException ex) {
+        health = (failOnError ? Health.down() : Health.up())
+            .withException(ex)
+            .withDetail("estado", "falhou")
+            .withDetail("duracaoMs", duracaoMillis)
+            .build();
+    }
+}
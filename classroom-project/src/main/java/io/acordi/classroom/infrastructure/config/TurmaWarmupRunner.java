@@ -0,0 +1,270 @@
+package io.acordi.classroom.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.acordi.classroom.application.dto.TurmaPatchRequestDto;
+import io.acordi.classroom.application.dto.TurmaRequestDto;
+import io.acordi.classroom.application.dto.TurmaResponseDto;
+import io.acordi.classroom.application.service.TurmaService;
+import io.acordi.classroom.domain.repository.TurmaRepository;
+import io.acordi.classroom.infrastructure.repository.TurmaJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(prefix = "classroom.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TurmaWarmupRunner implements ApplicationRunner {
+
+    private static final String BASE_PATH = "/api/v1/turmas";
+
+    private final TurmaService turmaService;
+    private final TurmaRepository turmaRepository;
+    private final TurmaJpaRepository turmaJpaRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final Environment environment;
+    private final TurmaWarmupHealthIndicator healthIndicator;
+    private final boolean failOnError;
+    private final Duration maxDuration;
+    private final int iterationsPerRound;
+    private final int minRounds;
+    private final int settleRounds;
+    private final long settleThresholdMillis;
+    private final int sampleSize;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    public TurmaWarmupRunner(
+            TurmaService turmaService,
+            TurmaRepository turmaRepository,
+            TurmaJpaRepository turmaJpaRepository,
+            PlatformTransactionManager transactionManager,
+            DataSource dataSource,
+            Environment environment,
+            TurmaWarmupHealthIndicator healthIndicator,
+            @Value("${classroom.warmup.fail-on-error:false}") boolean failOnError,
+            @Value("${classroom.warmup.max-duration-ms:60000}") long maxDurationMillis,
+            @Value("${classroom.warmup.iterations-per-round:200}") int iterationsPerRound,
+            @Value("${classroom.warmup.min-rounds:3}") int minRounds,
+            @Value("${classroom.warmup.settle-rounds:3}") int settleRounds,
+            @Value("${classroom.warmup.settle-threshold-ms:20}") long settleThresholdMillis,
+            @Value("${classroom.warmup.sample-size:50}") int sampleSize) {
+
+        this.turmaService = turmaService;
+        this.turmaRepository = turmaRepository;
+        this.turmaJpaRepository = turmaJpaRepository;
+        this.transactionManager = transactionManager;
+        this.dataSource = dataSource;
+        this.environment = environment;
+        this.healthIndicator = healthIndicator;
+        this.failOnError = failOnError;
+        this.maxDuration = Duration.ofMillis(maxDurationMillis);
+        this.iterationsPerRound = iterationsPerRound;
+        this.minRounds = minRounds;
+        this.settleRounds = settleRounds;
+        this.settleThresholdMillis = settleThresholdMillis;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long inicio = System.nanoTime();
+        log.info("Iniciando aquecimento da aplicação");
+
+        try {
+            int conexoes = fillConnectionPool();
+            int consultas = prepareQueries();
+            List<TurmaResponseDto> amostra = loadSample();
+            int rodadas = runUntilCompilationSettles(amostra);
+
+            long duracao = Duration.ofNanos(System.nanoTime() - inicio).toMillis();
+            healthIndicator.completed(duracao, rodadas);
+            log.info("Aquecimento concluído em {} ms - conexões abertas: {}, consultas preparadas: {}, amostra: {}, rodadas: {}",
+                duracao, conexoes, consultas, amostra.size(), rodadas);
+        } catch (RuntimeException ex) {
+            long duracao = Duration.ofNanos(System.nanoTime() - inicio).toMillis();
+            healthIndicator.failed(duracao, ex);
+            if (failOnError) {
+                throw new IllegalStateException("Aquecimento falhou após " + duracao + " ms", ex);
+            }
+            log.warn("Aquecimento interrompido após {} ms: {}", duracao, ex.getMessage(), ex);
+        }
+    }
+
+    private int fillConnectionPool() {
+        int minimoOcioso = minimumIdle();
+        List<Connection> conexoes = new ArrayList<>(minimoOcioso);
+        try {
+            while (conexoes.size() < minimoOcioso) {
+                conexoes.add(dataSource.getConnection());
+            }
+            return conexoes.size();
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Falha ao abrir as conexões mínimas do pool", ex);
+        } finally {
+            conexoes.forEach(TurmaWarmupRunner::release);
+        }
+    }
+
+    private int minimumIdle() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getMinimumIdle()
+                : 1;
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Falha ao consultar a configuração do pool de conexões", ex);
+        }
+    }
+
+    private static void release(Connection conexao) {
+        try {
+            conexao.close();
+        } catch (SQLException ex) {
+            log.warn("Falha ao devolver conexão ao pool durante o aquecimento: {}", ex.getMessage());
+        }
+    }
+
+    private int prepareQueries() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> turmaJpaRepository.prepareDynamicFilterQueries());
+    }
+
+    private List<TurmaResponseDto> loadSample() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<TurmaResponseDto> amostra = readOnly.execute(status -> turmaRepository.findAllAsStream()
+            .limit(sampleSize)
+            .map(TurmaResponseDto::fromEntity)
+            .toList());
+
+        if (amostra.isEmpty()) {
+            log.info("Nenhuma turma cadastrada; o aquecimento não exercitará as consultas por ID");
+            return List.of(new TurmaResponseDto(null, "Turma", "Curso", 1, null, false));
+        }
+        return amostra;
+    }
+
+    private int runUntilCompilationSettles(List<TurmaResponseDto> amostra) {
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        boolean monitorado = jit != null && jit.isCompilationTimeMonitoringSupported();
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        long compilacaoAnterior = monitorado ? jit.getTotalCompilationTime() : 0;
+        int rodadasEstaveis = 0;
+        int rodada = 0;
+
+        while (System.nanoTime() < deadline) {
+            rodada++;
+            for (int i = 0; i < iterationsPerRound; i++) {
+                exerciseReads(amostra.get(i % amostra.size()));
+            }
+            exerciseWrites(amostra.get(rodada % amostra.size()));
+
+            if (!monitorado) {
+                if (rodada >= minRounds) {
+                    break;
+                }
+                continue;
+            }
+
+            long compilacaoAtual = jit.getTotalCompilationTime();
+            rodadasEstaveis = compilacaoAtual - compilacaoAnterior <= settleThresholdMillis ? rodadasEstaveis + 1 : 0;
+            log.debug("Rodada {} de aquecimento - tempo de compilação na rodada: {} ms",
+                rodada, compilacaoAtual - compilacaoAnterior);
+            compilacaoAnterior = compilacaoAtual;
+
+            if (rodada >= minRounds && rodadasEstaveis >= settleRounds) {
+                break;
+            }
+        }
+        return rodada;
+    }
+
+    private void exerciseReads(TurmaResponseDto turma) {
+        String prefixo = encode(turma.nome().substring(0, Math.min(3, turma.nome().length())));
+        String curso = encode(turma.curso());
+
+        if (turma.id() != null) {
+            get("/" + turma.id());
+            get("/" + Long.MAX_VALUE);
+        }
+        get("?nome=" + prefixo);
+        get("?curso=" + curso + "&periodo=" + turma.periodo());
+        get("?nome=" + prefixo + "&curso=" + curso + "&periodo=" + turma.periodo());
+        get("?fields=id,nome,periodo&nome=" + prefixo);
+        get("/stats/curso/" + curso);
+        get("/stats/periodo/" + turma.periodo());
+        get("/stats/facets?nome=" + prefixo);
+        get("/suggestions?campo=nome&q=" + prefixo);
+    }
+
+    private void exerciseWrites(TurmaResponseDto turma) {
+        TransactionTemplate rollback = new TransactionTemplate(transactionManager);
+        rollback.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            try {
+                String nome = "warmup-" + UUID.randomUUID();
+                TurmaResponseDto criada = turmaService.createTurma(
+                    new TurmaRequestDto(nome, turma.curso(), turma.periodo(), null));
+                turmaService.updateTurma(criada.id(),
+                    new TurmaRequestDto(nome, turma.curso(), turma.periodo(), "Aquecimento"));
+                turmaService.patchTurma(criada.id(), new TurmaPatchRequestDto(null, null, null, ""));
+                turmaService.deleteById(criada.id());
+            } catch (RuntimeException ex) {
+                log.debug("Falha em escrita de aquecimento (revertida): {}", ex.getMessage());
+            }
+        });
+    }
+
+    private void get(String path) {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null) {
+            return;
+        }
+
+        String contextPath = environment.getProperty("server.servlet.context-path", "");
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + contextPath + BASE_PATH + path))
+            .timeout(Duration.ofSeconds(10))
+            .GET()
+            .build();
+        try {
+            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException ex) {
+            log.debug("Falha na requisição de aquecimento {}: {}", path, ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Aquecimento interrompido", ex);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
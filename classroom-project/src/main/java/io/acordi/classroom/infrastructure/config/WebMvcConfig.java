@@ -0,0 +1,22 @@
+package io.acordi.classroom.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.acordi.classroom.presentation.converter.TurmaJsonHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new TurmaJsonHttpMessageConverter(objectMapper));
+    }
+}
@@ -0,0 +1,8 @@
+package io.acordi.classroom.infrastructure.exception;
+
+public class ProfilingStateException extends RuntimeException {
+    
+    public ProfilingStateException(String message) {
+        super(message, null, false, false);
+    }
+}
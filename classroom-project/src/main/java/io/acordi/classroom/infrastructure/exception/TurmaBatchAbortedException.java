@@ -0,0 +1,8 @@
+package io.acordi.classroom.infrastructure.exception;
+
+public class TurmaBatchAbortedException extends RuntimeException {
+    
+    public TurmaBatchAbortedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,18 @@
+package io.acordi.classroom.infrastructure.exception;
+
+import io.acordi.classroom.domain.model.TurmaImportResult;
+
+public class TurmaImportInterruptedException extends RuntimeException {
+    
+    private final TurmaImportResult parcial;
+    
+    public TurmaImportInterruptedException(TurmaImportResult parcial, Throwable cause) {
+        super("Importação interrompida após " + parcial.importadas() 
+            + " turmas importadas; reenvie o arquivo para concluir", cause);
+        this.parcial = parcial;
+    }
+    
+    public TurmaImportResult getParcial() {
+        return parcial;
+    }
+}
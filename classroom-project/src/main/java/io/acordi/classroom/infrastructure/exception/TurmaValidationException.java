@@ -3,6 +3,6 @@ package io.acordi.classroom.infrastructure.exception;
 public class TurmaValidationException extends RuntimeException {
     
     public TurmaValidationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-}
\ No newline at end of file
+}
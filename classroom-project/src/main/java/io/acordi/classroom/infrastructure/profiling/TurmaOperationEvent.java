@@ -0,0 +1,27 @@
+package io.acordi.classroom.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+@Category({"Classroom", "Turmas"})
+@StackTrace(false)
+abstract class TurmaOperationEvent extends Event {
+    
+    @Label("Operação")
+    String operation;
+    
+    @Label("Parâmetros")
+    @Description("Argumentos da chamada, incluindo os filtros aplicados")
+    String parameters;
+    
+    @Label("Linhas")
+    @Description("Quantidade de registros retornados; -1 quando não se aplica")
+    long rowCount;
+    
+    @Label("Erro")
+    @Description("Exceção lançada pela operação, se houver")
+    String error;
+}
@@ -0,0 +1,78 @@
+package io.acordi.classroom.infrastructure.profiling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "classroom.profiling", name = "enabled", havingValue = "true")
+public class TurmaProfilingAspect {
+    
+    private static final int MAX_PARAMETER_LENGTH = 256;
+    
+    @Around("execution(public * io.acordi.classroom.application.service.TurmaService.*(..))")
+    public Object profileService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new TurmaServiceEvent(), joinPoint);
+    }
+    
+    @Around("execution(* io.acordi.classroom.domain.repository.TurmaRepository.*(..))")
+    public Object profileRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new TurmaRepositoryEvent(), joinPoint);
+    }
+    
+    private Object record(TurmaOperationEvent event, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        
+        event.begin();
+        try {
+            Object result = joinPoint.proceed();
+            event.rowCount = rowCount(result);
+            return result;
+        } catch (Throwable ex) {
+            event.rowCount = -1;
+            event.error = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getDeclaringType().getSimpleName() 
+                    + "." + joinPoint.getSignature().getName();
+                event.parameters = describe(joinPoint.getArgs());
+                event.commit();
+            }
+        }
+    }
+    
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+    
+    private static String describe(Object[] args) {
+        String description = Arrays.stream(args)
+            .map(String::valueOf)
+            .collect(Collectors.joining(", "));
+        return description.length() > MAX_PARAMETER_LENGTH 
+            ? description.substring(0, MAX_PARAMETER_LENGTH) + "..." 
+            : description;
+    }
+}
@@ -0,0 +1,126 @@
+package io.acordi.classroom.infrastructure.profiling;
+
+import io.acordi.classroom.application.dto.ProfilingRecordingDto;
+import io.acordi.classroom.infrastructure.exception.ProfilingStateException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(prefix = "classroom.profiling", name = "enabled", havingValue = "true")
+@Slf4j
+public class TurmaProfilingRecorder {
+    
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    
+    private Recording recording;
+    private String configuration;
+    
+    public TurmaProfilingRecorder(
+            @Value("${classroom.profiling.max-duration-seconds:300}") long maxDurationSeconds,
+            @Value("${classroom.profiling.max-size-mb:100}") long maxSizeMegabytes) {
+        
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxSizeBytes = maxSizeMegabytes * 1024 * 1024;
+        
+        FlightRecorder.register(TurmaServiceEvent.class);
+        FlightRecorder.register(TurmaRepositoryEvent.class);
+    }
+    
+    public synchronized ProfilingRecordingDto start(Duration duration, String configuracao) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new ProfilingStateException("Já existe uma gravação em andamento (id " + recording.getId() + ")");
+        }
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException(
+                "Duração deve estar entre 1 e " + maxDuration.toSeconds() + " segundos");
+        }
+        
+        closeCurrent();
+        Recording novaGravacao = new Recording(loadConfiguration(configuracao));
+        novaGravacao.setName("turmas-" + configuracao);
+        novaGravacao.setDuration(duration);
+        novaGravacao.setMaxSize(maxSizeBytes);
+        novaGravacao.setToDisk(true);
+        novaGravacao.enable(TurmaServiceEvent.NAME).withThreshold(Duration.ZERO);
+        novaGravacao.enable(TurmaRepositoryEvent.NAME).withThreshold(Duration.ZERO);
+        novaGravacao.start();
+        recording = novaGravacao;
+        configuration = configuracao;
+        
+        log.info("Gravação JFR {} iniciada - configuração: {}, duração: {}s", 
+            recording.getId(), configuracao, duration.toSeconds());
+        return toDto(recording);
+    }
+    
+    public synchronized ProfilingRecordingDto status() {
+        return toDto(current());
+    }
+    
+    public synchronized ProfilingRecordingDto stop() {
+        Recording atual = current();
+        if (atual.getState() == RecordingState.RUNNING) {
+            atual.stop();
+            log.info("Gravação JFR {} encerrada", atual.getId());
+        }
+        return toDto(atual);
+    }
+    
+    public synchronized Path dump() {
+        Recording atual = current();
+        try {
+            Path arquivo = Files.createTempFile("turmas-" + atual.getId() + "-", ".jfr");
+            atual.dump(arquivo);
+            return arquivo;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao gravar o arquivo JFR", ex);
+        }
+    }
+    
+    @PreDestroy
+    public synchronized void closeCurrent() {
+        Optional.ofNullable(recording).ifPresent(Recording::close);
+        recording = null;
+        configuration = null;
+    }
+    
+    private Recording current() {
+        return Optional.ofNullable(recording)
+            .orElseThrow(() -> new ProfilingStateException("Nenhuma gravação foi iniciada"));
+    }
+    
+    private static Configuration loadConfiguration(String configuracao) {
+        try {
+            return Configuration.getConfiguration(configuracao);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalArgumentException(
+                "Configuração JFR inválida: " + configuracao + " (use 'default' ou 'profile')", ex);
+        }
+    }
+    
+    private ProfilingRecordingDto toDto(Recording recording) {
+        return new ProfilingRecordingDto(
+            recording.getId(),
+            recording.getState().name(),
+            configuration,
+            recording.getStartTime(),
+            Optional.ofNullable(recording.getDuration()).map(Duration::toSeconds).orElse(0L),
+            recording.getSize()
+        );
+    }
+}
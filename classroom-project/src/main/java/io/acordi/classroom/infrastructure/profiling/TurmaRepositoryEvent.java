@@ -0,0 +1,11 @@
+package io.acordi.classroom.infrastructure.profiling;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(TurmaRepositoryEvent.NAME)
+@Label("Chamada ao TurmaRepository")
+class TurmaRepositoryEvent extends TurmaOperationEvent {
+    
+    static final String NAME = "io.acordi.classroom.TurmaRepository";
+}
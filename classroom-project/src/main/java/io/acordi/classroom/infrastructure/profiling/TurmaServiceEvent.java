@@ -0,0 +1,11 @@
+package io.acordi.classroom.infrastructure.profiling;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(TurmaServiceEvent.NAME)
+@Label("Operação do TurmaService")
+class TurmaServiceEvent extends TurmaOperationEvent {
+    
+    static final String NAME = "io.acordi.classroom.TurmaService";
+}
@@ -0,0 +1,174 @@
+package io.acordi.classroom.infrastructure.repository;
+
+import io.acordi.classroom.domain.model.Turma;
+import io.acordi.classroom.domain.model.TurmaArquivada;
+import io.acordi.classroom.domain.model.TurmaField;
+import io.acordi.classroom.domain.repository.TurmaArchiveRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TurmaArchiveRepositoryImpl implements TurmaArchiveRepository {
+
+    private static final String ARCHIVE_EXPIRED_OR_CLOSED = """
+        WITH lote AS (
+            SELECT id FROM turmas
+            WHERE (encerrada AND restaurada_em IS NULL)
+               OR COALESCE(restaurada_em, criada_em) < now() - make_interval(days => ?)
+            ORDER BY COALESCE(restaurada_em, criada_em)
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        ), movidas AS (
+            DELETE FROM turmas t USING lote
+            WHERE t.id = lote.id
+            RETURNING t.id, t.nome, t.curso, t.periodo, t.descricao, t.criada_em, t.encerrada
+        )
+        INSERT INTO turmas_arquivadas (id, nome, curso, periodo, descricao, criada_em, encerrada)
+        SELECT id, nome, curso, periodo, descricao, criada_em, encerrada FROM movidas
+        RETURNING id, nome, curso, periodo, descricao, criada_em, arquivada_em, encerrada
+        """;
+
+    private static final String ARCHIVE_BY_ID = """
+        WITH movida AS (
+            DELETE FROM turmas
+            WHERE id = ?
+            RETURNING id, nome, curso, periodo, descricao, criada_em, encerrada
+        )
+        INSERT INTO turmas_arquivadas (id, nome, curso, periodo, descricao, criada_em, encerrada)
+        SELECT id, nome, curso, periodo, descricao, criada_em, encerrada FROM movida
+        RETURNING id, nome, curso, periodo, descricao, criada_em, arquivada_em, encerrada
+        """;
+
+    private static final String RESTORE_BY_ID = """
+        WITH restaurada AS (
+            DELETE FROM turmas_arquivadas
+            WHERE id = ?
+            RETURNING id, nome, curso, periodo, descricao, criada_em, encerrada
+        )
+        INSERT INTO turmas (id, nome, curso, periodo, descricao, criada_em, encerrada, restaurada_em)
+        SELECT id, nome, curso, periodo, descricao, criada_em, encerrada, now() FROM restaurada
+        RETURNING id, nome, curso, periodo, descricao, criada_em, encerrada, restaurada_em
+        """;
+
+    private static final String ENCERRADA = ", t.encerrada AS encerrada";
+    private static final String ALL_TIERS_ORDER_COLUMNS = ", t.nome AS ordem_nome, t.id AS ordem_id FROM ";
+    private static final String ALL_TIERS_ORDER_BY = " ORDER BY ordem_nome ASC, ordem_id ASC";
+
+    private static final RowMapper<TurmaArquivada> ARQUIVADA_MAPPER = (rs, rowNum) -> new TurmaArquivada(
+        rs.getLong("id"),
+        rs.getString("nome"),
+        rs.getString("curso"),
+        rs.getInt("periodo"),
+        rs.getString("descricao"),
+        toLocalDateTime(rs.getTimestamp("criada_em")),
+        toLocalDateTime(rs.getTimestamp("arquivada_em")),
+        rs.getBoolean("encerrada")
+    );
+
+    private static final RowMapper<Turma> TURMA_MAPPER = (rs, rowNum) -> new Turma(
+        rs.getLong("id"),
+        rs.getString("nome"),
+        rs.getString("curso"),
+        rs.getInt("periodo"),
+        rs.getString("descricao"),
+        toLocalDateTime(rs.getTimestamp("criada_em")),
+        rs.getBoolean("encerrada"),
+        toLocalDateTime(rs.getTimestamp("restaurada_em"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<TurmaArquivada> archiveExpiredOrClosed(int maxAgeDays, int batchSize) {
+        log.debug("Arquivando até {} turmas encerradas ou criadas há mais de {} dias", batchSize, maxAgeDays);
+        return jdbcTemplate.query(ARCHIVE_EXPIRED_OR_CLOSED, ARQUIVADA_MAPPER, maxAgeDays, batchSize);
+    }
+
+    @Override
+    @Transactional
+    public Optional<TurmaArquivada> archiveById(Long id) {
+        log.debug("Arquivando turma por ID: {}", id);
+        return jdbcTemplate.query(ARCHIVE_BY_ID, ARQUIVADA_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public Optional<Turma> restoreById(Long id) {
+        log.debug("Restaurando turma arquivada por ID: {}", id);
+        return jdbcTemplate.query(RESTORE_BY_ID, TURMA_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TurmaArquivada> findById(Long id) {
+        log.debug("Buscando turma arquivada por ID: {}", id);
+        return Optional.ofNullable(entityManager.find(TurmaArquivada.class, id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Turma> findInAllTiersWithFilters(String nome, String curso, Integer periodo) {
+        log.debug("Buscando turmas ativas e arquivadas com filtros - nome: {}, curso: {}, período: {}",
+            nome, curso, periodo);
+
+        return findTuplesInAllTiers(
+                List.of(TurmaField.values()), ENCERRADA, nome, curso, periodo).stream()
+            .map(tuple -> new Turma(
+                tuple.get("id", Long.class),
+                tuple.get("nome", String.class),
+                tuple.get("curso", String.class),
+                tuple.get("periodo", Integer.class),
+                tuple.get("descricao", String.class),
+                null,
+                tuple.get("encerrada", Boolean.class),
+                null))
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFieldsInAllTiersWithFilters(
+            List<TurmaField> fields, String nome, String curso, Integer periodo) {
+        log.debug("Buscando campos {} de turmas ativas e arquivadas - nome: {}, curso: {}, período: {}",
+            fields, nome, curso, periodo);
+
+        return findTuplesInAllTiers(fields, "", nome, curso, periodo).stream()
+            .map(tuple -> TurmaFilterQuery.toFieldMap(fields, tuple))
+            .toList();
+    }
+
+    private List<Tuple> findTuplesInAllTiers(
+            List<TurmaField> fields, String extraColumns, String nome, String curso, Integer periodo) {
+        String where = TurmaFilterQuery.where(nome, curso, periodo);
+        String sql = TurmaFilterQuery.select(fields, extraColumns + ALL_TIERS_ORDER_COLUMNS + "turmas t") + where
+            + " UNION ALL "
+            + TurmaFilterQuery.select(fields, extraColumns + ALL_TIERS_ORDER_COLUMNS + "turmas_arquivadas t") + where
+            + ALL_TIERS_ORDER_BY;
+
+        List<?> rows = TurmaFilterQuery.bind(entityManager.createNativeQuery(sql, Tuple.class), nome, curso, periodo)
+            .getResultList();
+        return rows.stream()
+            .map(Tuple.class::cast)
+            .toList();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return Optional.ofNullable(timestamp).map(Timestamp::toLocalDateTime).orElse(null);
+    }
+}
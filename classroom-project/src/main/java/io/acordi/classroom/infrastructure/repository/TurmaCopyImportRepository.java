@@ -0,0 +1,211 @@
+package io.acordi.classroom.infrastructure.repository;
+
+import io.acordi.classroom.domain.model.TurmaImportRejection;
+import io.acordi.classroom.domain.model.TurmaImportResult;
+import io.acordi.classroom.domain.repository.TurmaImportRepository;
+import io.acordi.classroom.infrastructure.exception.TurmaImportInterruptedException;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+@Component
+@Slf4j
+public class TurmaCopyImportRepository implements TurmaImportRepository {
+
+    private static final String CREATE_STAGING = """
+        CREATE TEMP TABLE turmas_importacao (
+            registro  BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+            nome      TEXT,
+            curso     TEXT,
+            periodo   TEXT,
+            descricao TEXT,
+            motivo    TEXT
+        )
+        """;
+
+    private static final String DROP_STAGING = "DROP TABLE IF EXISTS turmas_importacao";
+
+    private static final String COPY_STAGING = """
+        COPY turmas_importacao (nome, curso, periodo, descricao)
+        FROM STDIN WITH (FORMAT csv, HEADER true, ENCODING 'UTF8')
+        """;
+
+    private static final List<String> VALIDATIONS = List.of(
+        """
+        UPDATE turmas_importacao SET motivo = 'Nome não pode ser nulo ou vazio'
+        WHERE motivo IS NULL AND (nome IS NULL OR btrim(nome) = '')
+        """,
+        """
+        UPDATE turmas_importacao SET motivo = 'Nome deve ter entre 2 e 100 caracteres'
+        WHERE motivo IS NULL AND char_length(btrim(nome)) NOT BETWEEN 2 AND 100
+        """,
+        """
+        UPDATE turmas_importacao SET motivo = 'Curso não pode ser nulo ou vazio'
+        WHERE motivo IS NULL AND (curso IS NULL OR btrim(curso) = '')
+        """,
+        """
+        UPDATE turmas_importacao SET motivo = 'Curso deve ter entre 2 e 100 caracteres'
+        WHERE motivo IS NULL AND char_length(btrim(curso)) NOT BETWEEN 2 AND 100
+        """,
+        """
+        UPDATE turmas_importacao SET motivo = 'Período deve estar entre 1 e 10'
+        WHERE motivo IS NULL AND (CASE
+            WHEN btrim(periodo) ~ '^[0-9]{1,2}$' THEN btrim(periodo)::integer BETWEEN 1 AND 10
+            ELSE false
+        END) IS NOT TRUE
+        """,
+        """
+        UPDATE turmas_importacao SET motivo = 'Descrição deve ter no máximo 500 caracteres'
+        WHERE motivo IS NULL AND char_length(btrim(descricao)) > 500
+        """,
+        """
+        UPDATE turmas_importacao s
+        SET motivo = 'Nome repetido no arquivo (primeira ocorrência no registro ' || d.primeira || ')'
+        FROM (
+            SELECT lower(btrim(nome)) AS chave, MIN(registro) AS primeira
+            FROM turmas_importacao
+            WHERE motivo IS NULL
+            GROUP BY lower(btrim(nome))
+        ) d
+        WHERE s.motivo IS NULL AND lower(btrim(s.nome)) = d.chave AND s.registro > d.primeira
+        """
+    );
+
+    private static final String LOCK_TURMAS = "LOCK TABLE turmas IN SHARE ROW EXCLUSIVE MODE";
+
+    private static final String REJECT_EXISTING = """
+        UPDATE turmas_importacao s
+        SET motivo = 'Já existe uma turma com o nome: ' || btrim(s.nome)
+        WHERE s.motivo IS NULL
+          AND s.registro BETWEEN ? AND ?
+          AND EXISTS (SELECT 1 FROM turmas t WHERE lower(t.nome) = lower(btrim(s.nome)))
+        """;
+
+    private static final String MERGE_VALID = """
+        INSERT INTO turmas (nome, curso, periodo, descricao)
+        SELECT btrim(nome), btrim(curso), btrim(periodo)::integer, NULLIF(btrim(descricao), '')
+        FROM turmas_importacao
+        WHERE motivo IS NULL AND registro BETWEEN ? AND ?
+        ORDER BY registro
+        """;
+
+    private static final String SELECT_REJECTIONS = """
+        SELECT registro, motivo
+        FROM turmas_importacao
+        WHERE motivo IS NOT NULL
+        ORDER BY registro
+        LIMIT ?
+        """;
+
+    private final DataSource dataSource;
+    private final int maxRejectionsReported;
+    private final int chunkSize;
+
+    public TurmaCopyImportRepository(
+            DataSource dataSource,
+            @Value("${classroom.import.max-rejections-reported:1000}") int maxRejectionsReported,
+            @Value("${classroom.import.chunk-size:10000}") int chunkSize) {
+        this.dataSource = dataSource;
+        this.maxRejectionsReported = maxRejectionsReported;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public TurmaImportResult importCsv(InputStream csv) {
+        try (Connection connection = dataSource.getConnection()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            connection.setAutoCommit(false);
+            Exception failure = null;
+            try {
+                return importInChunks(connection, jdbcTemplate, csv);
+            } catch (SQLException | RuntimeException ex) {
+                failure = ex;
+                throw ex;
+            } finally {
+                cleanUp(connection, jdbcTemplate, failure);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Falha na conexão durante a importação de turmas", ex);
+        }
+    }
+
+    private TurmaImportResult importInChunks(Connection connection, JdbcTemplate jdbcTemplate, InputStream csv)
+            throws SQLException {
+        jdbcTemplate.execute(DROP_STAGING);
+        jdbcTemplate.execute(CREATE_STAGING);
+
+        long totalRegistros = copyIntoStaging(connection, csv);
+        log.debug("{} registros copiados para a tabela de importação", totalRegistros);
+
+        long rejeitadas = VALIDATIONS.stream()
+            .mapToLong(jdbcTemplate::update)
+            .sum();
+        connection.commit();
+
+        long importadas = 0;
+        for (long inicio = 1; inicio <= totalRegistros; inicio += chunkSize) {
+            long fim = inicio + chunkSize - 1;
+            try {
+                jdbcTemplate.execute(LOCK_TURMAS);
+                int existentes = jdbcTemplate.update(REJECT_EXISTING, inicio, fim);
+                int inseridas = jdbcTemplate.update(MERGE_VALID, inicio, fim);
+                connection.commit();
+                rejeitadas += existentes;
+                importadas += inseridas;
+            } catch (SQLException | RuntimeException ex) {
+                if (importadas == 0) {
+                    throw ex;
+                }
+                throw new TurmaImportInterruptedException(
+                    new TurmaImportResult(totalRegistros, importadas, rejeitadas, List.of()), ex);
+            }
+            log.debug("Registros {} a {} importados", inicio, Math.min(fim, totalRegistros));
+        }
+
+        List<TurmaImportRejection> rejeicoes = jdbcTemplate.query(
+            SELECT_REJECTIONS,
+            (rs, rowNum) -> new TurmaImportRejection(rs.getLong("registro"), rs.getString("motivo")),
+            maxRejectionsReported
+        );
+
+        return new TurmaImportResult(totalRegistros, importadas, rejeitadas, rejeicoes);
+    }
+
+    private static void cleanUp(Connection connection, JdbcTemplate jdbcTemplate, Exception failure)
+            throws SQLException {
+        try {
+            connection.rollback();
+            jdbcTemplate.execute(DROP_STAGING);
+            connection.commit();
+            connection.setAutoCommit(true);
+        } catch (SQLException | RuntimeException ex) {
+            if (failure == null) {
+                throw ex;
+            }
+            failure.addSuppressed(ex);
+        }
+    }
+
+    private long copyIntoStaging(Connection connection, InputStream csv) {
+        try {
+            return connection.unwrap(PGConnection.class)
+                .getCopyAPI()
+                .copyIn(COPY_STAGING, csv);
+        } catch (SQLException ex) {
+            throw new IllegalArgumentException("Arquivo CSV inválido: " + ex.getMessage(), ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao ler o arquivo CSV", ex);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.acordi.classroom.infrastructure.repository;
+
+import io.acordi.classroom.domain.model.TurmaField;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+final class TurmaFilterQuery {
+    
+    static final String FROM = " FROM Turma t";
+    
+    private static final char LIKE_ESCAPE = '!';
+    
+    private TurmaFilterQuery() {
+    }
+    
+    static String select(List<TurmaField> fields) {
+        return select(fields, FROM);
+    }
+    
+    static String select(List<TurmaField> fields, String from) {
+        return fields.stream()
+            .map(field -> "t." + field.attribute() + " AS " + field.attribute())
+            .collect(Collectors.joining(", ", "SELECT ", from));
+    }
+    
+    static String where(String nome, String curso, Integer periodo) {
+        StringJoiner predicates = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        if (nome != null) {
+            predicates.add("LOWER(t.nome) LIKE LOWER(:nome) ESCAPE '" + LIKE_ESCAPE + "'");
+        }
+        if (curso != null) {
+            predicates.add("LOWER(t.curso) LIKE LOWER(:curso) ESCAPE '" + LIKE_ESCAPE + "'");
+        }
+        if (periodo != null) {
+            predicates.add("t.periodo = :periodo");
+        }
+        return predicates.toString();
+    }
+    
+    static boolean hasFilters(String nome, String curso, Integer periodo) {
+        return nome != null || curso != null || periodo != null;
+    }
+    
+    static <Q extends Query> Q bind(Q query, String nome, String curso, Integer periodo) {
+        if (nome != null) {
+            query.setParameter("nome", containing(nome));
+        }
+        if (curso != null) {
+            query.setParameter("curso", containing(curso));
+        }
+        if (periodo != null) {
+            query.setParameter("periodo", periodo);
+        }
+        return query;
+    }
+    
+    static String containing(String value) {
+        StringBuilder pattern = new StringBuilder(value.length() + 8).append('%');
+        for (char c : value.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+    
+    static Map<String, Object> toFieldMap(List<TurmaField> fields, Tuple tuple) {
+        Map<String, Object> values = new LinkedHashMap<>(fields.size() * 2);
+        for (TurmaField field : fields) {
+            values.put(field.attribute(), tuple.get(field.attribute()));
+        }
+        return values;
+    }
+}
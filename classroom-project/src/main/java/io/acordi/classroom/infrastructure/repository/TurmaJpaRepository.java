@@ -6,45 +6,42 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 @Repository
-public interface TurmaJpaRepository extends JpaRepository<Turma, Long> {
+public interface TurmaJpaRepository extends JpaRepository<Turma, Long>, TurmaJpaRepositoryCustom {
     
-    List<Turma> findByNomeContainingIgnoreCase(String nome);
+    @Query("SELECT t FROM Turma t WHERE LOWER(t.nome) LIKE LOWER(:pattern) ESCAPE '!'")
+    List<Turma> findByNomeLikeIgnoreCase(@Param("pattern") String pattern);
     
-    List<Turma> findByCursoContainingIgnoreCase(String curso);
+    @Query("SELECT t FROM Turma t WHERE LOWER(t.curso) LIKE LOWER(:pattern) ESCAPE '!'")
+    List<Turma> findByCursoLikeIgnoreCase(@Param("pattern") String pattern);
     
     List<Turma> findByPeriodo(Integer periodo);
     
-    Optional<Turma> findByNomeIgnoreCase(String nome);
+    @Query("SELECT t FROM Turma t WHERE LOWER(t.nome) = LOWER(:nome)")
+    Optional<Turma> findByNomeIgnoreCase(@Param("nome") String nome);
     
-    List<Turma> findByCursoIgnoreCaseAndPeriodo(String curso, Integer periodo);
+    @Query("SELECT t FROM Turma t WHERE LOWER(t.nome) IN :nomes")
+    List<Turma> findByNomeLowerIn(@Param("nomes") Collection<String> nomes);
     
-    long countByCursoIgnoreCase(String curso);
+    @Query("SELECT t FROM Turma t WHERE LOWER(t.curso) = LOWER(:curso) AND t.periodo = :periodo")
+    List<Turma> findByCursoIgnoreCaseAndPeriodo(@Param("curso") String curso, @Param("periodo") Integer periodo);
+    
+    @Query("SELECT COUNT(t) FROM Turma t WHERE LOWER(t.curso) = LOWER(:curso)")
+    long countByCursoIgnoreCase(@Param("curso") String curso);
     
     long countByPeriodo(Integer periodo);
     
-    boolean existsByNomeIgnoreCase(String nome);
+    @Query("SELECT COUNT(t) > 0 FROM Turma t WHERE LOWER(t.nome) = LOWER(:nome)")
+    boolean existsByNomeIgnoreCase(@Param("nome") String nome);
     
     @Query("SELECT t FROM Turma t")
     Stream<Turma> findAllAsStream();
     
     @Query("SELECT COUNT(t) > 0 FROM Turma t WHERE LOWER(t.curso) = LOWER(:curso) AND t.periodo = :periodo")
     boolean existsByCursoAndPeriodo(@Param("curso") String curso, @Param("periodo") Integer periodo);
-
-    @Query("""
-      SELECT t FROM Turma t WHERE 
-      (:nome IS NULL  OR LOWER(t.nome)  LIKE CONCAT('%', LOWER(CAST(:nome as string)),  '%')) AND
-      (:curso IS NULL OR LOWER(t.curso) LIKE CONCAT('%', LOWER(CAST(:curso as string)), '%')) AND
-      (:periodo IS NULL OR t.periodo = :periodo)
-      ORDER BY t.nome ASC
-    """)
-    List<Turma> findWithDynamicFilters(
-        @Param("nome") String nome, 
-        @Param("curso") String curso, 
-        @Param("periodo") Integer periodo
-    );
 }
\ No newline at end of file
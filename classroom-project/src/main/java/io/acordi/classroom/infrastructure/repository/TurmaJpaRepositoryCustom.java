@@ -0,0 +1,24 @@
+package io.acordi.classroom.infrastructure.repository;
+
+import io.acordi.classroom.domain.model.Turma;
+import io.acordi.classroom.domain.model.TurmaFacetCount;
+import io.acordi.classroom.domain.model.TurmaField;
+import io.acordi.classroom.domain.model.TurmaPatch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface TurmaJpaRepositoryCustom {
+    
+    List<Turma> findWithDynamicFilters(String nome, String curso, Integer periodo);
+    
+    List<TurmaFacetCount> countFacetsWithDynamicFilters(String nome, String curso, Integer periodo);
+    
+    List<Map<String, Object>> findFieldsWithDynamicFilters(
+        List<TurmaField> fields, String nome, String curso, Integer periodo);
+    
+    Optional<Turma> patchReturning(Long id, TurmaPatch patch);
+    
+    int prepareDynamicFilterQueries();
+}
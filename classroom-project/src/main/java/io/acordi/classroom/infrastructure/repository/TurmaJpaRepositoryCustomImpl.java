@@ -0,0 +1,105 @@
+package io.acordi.classroom.infrastructure.repository;
+
+import io.acordi.classroom.domain.model.Turma;
+import io.acordi.classroom.domain.model.TurmaFacetCount;
+import io.acordi.classroom.domain.model.TurmaField;
+import io.acordi.classroom.domain.model.TurmaPatch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+@RequiredArgsConstructor
+public class TurmaJpaRepositoryCustomImpl implements TurmaJpaRepositoryCustom {
+    
+    private final EntityManager entityManager;
+    
+    @Override
+    public List<Turma> findWithDynamicFilters(String nome, String curso, Integer periodo) {
+        return TurmaFilterQuery.bind(
+                entityManager.createQuery(filterJpql(nome, curso, periodo), Turma.class), nome, curso, periodo)
+            .getResultList();
+    }
+    
+    @Override
+    public List<TurmaFacetCount> countFacetsWithDynamicFilters(String nome, String curso, Integer periodo) {
+        return TurmaFilterQuery.bind(
+                entityManager.createQuery(facetJpql(nome, curso, periodo), TurmaFacetCount.class), nome, curso, periodo)
+            .getResultList();
+    }
+    
+    @Override
+    public List<Map<String, Object>> findFieldsWithDynamicFilters(
+            List<TurmaField> fields, String nome, String curso, Integer periodo) {
+        
+        String jpql = TurmaFilterQuery.select(fields) 
+            + TurmaFilterQuery.where(nome, curso, periodo)
+            + (TurmaFilterQuery.hasFilters(nome, curso, periodo) ? " ORDER BY t.nome ASC" : "");
+        
+        return TurmaFilterQuery.bind(entityManager.createQuery(jpql, Tuple.class), nome, curso, periodo)
+            .getResultList()
+            .stream()
+            .map(tuple -> TurmaFilterQuery.toFieldMap(fields, tuple))
+            .toList();
+    }
+    
+    @Override
+    public Optional<Turma> patchReturning(Long id, TurmaPatch patch) {
+        StringJoiner assignments = new StringJoiner(", ");
+        Optional.ofNullable(patch.nome()).ifPresent(nome -> assignments.add("nome = :nome"));
+        Optional.ofNullable(patch.curso()).ifPresent(curso -> assignments.add("curso = :curso"));
+        Optional.ofNullable(patch.periodo()).ifPresent(periodo -> assignments.add("periodo = :periodo"));
+        Optional.ofNullable(patch.descricao())
+            .ifPresent(descricao -> assignments.add(patch.limpaDescricao() ? "descricao = NULL" : "descricao = :descricao"));
+        
+        entityManager.flush();
+        entityManager.detach(entityManager.getReference(Turma.class, id));
+        
+        Query query = entityManager.createNativeQuery(
+            "UPDATE turmas SET " + assignments + " WHERE id = :id RETURNING *", Turma.class);
+        query.setParameter("id", id);
+        Optional.ofNullable(patch.nome()).ifPresent(nome -> query.setParameter("nome", nome));
+        Optional.ofNullable(patch.curso()).ifPresent(curso -> query.setParameter("curso", curso));
+        Optional.ofNullable(patch.periodo()).ifPresent(periodo -> query.setParameter("periodo", periodo));
+        Optional.ofNullable(patch.descricao())
+            .filter(descricao -> !patch.limpaDescricao())
+            .ifPresent(descricao -> query.setParameter("descricao", descricao));
+        
+        return query.getResultList().stream()
+            .map(Turma.class::cast)
+            .findFirst();
+    }
+    
+    @Override
+    public int prepareDynamicFilterQueries() {
+        int prepared = 0;
+        for (int mask = 0; mask < 8; mask++) {
+            String nome = (mask & 1) != 0 ? "" : null;
+            String curso = (mask & 2) != 0 ? "" : null;
+            Integer periodo = (mask & 4) != 0 ? 1 : null;
+            
+            entityManager.createQuery(filterJpql(nome, curso, periodo), Turma.class);
+            entityManager.createQuery(facetJpql(nome, curso, periodo), TurmaFacetCount.class);
+            prepared += 2;
+        }
+        return prepared;
+    }
+    
+    private static String filterJpql(String nome, String curso, Integer periodo) {
+        return "SELECT t" + TurmaFilterQuery.FROM 
+            + TurmaFilterQuery.where(nome, curso, periodo) 
+            + " ORDER BY t.nome ASC";
+    }
+    
+    private static String facetJpql(String nome, String curso, Integer periodo) {
+        return "SELECT new io.acordi.classroom.domain.model.TurmaFacetCount(MIN(t.curso), t.periodo, COUNT(t))"
+            + TurmaFilterQuery.FROM
+            + TurmaFilterQuery.where(nome, curso, periodo)
+            + " GROUP BY LOWER(t.curso), t.periodo ORDER BY LOWER(t.curso) ASC, t.periodo ASC";
+    }
+}
@@ -1,13 +1,19 @@
 package io.acordi.classroom.infrastructure.repository;
 
 import io.acordi.classroom.domain.model.Turma;
+import io.acordi.classroom.domain.model.TurmaFacetCount;
+import io.acordi.classroom.domain.model.TurmaField;
+import io.acordi.classroom.domain.model.TurmaPatch;
 import io.acordi.classroom.domain.repository.TurmaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -25,6 +31,13 @@ public class TurmaRepositoryImpl implements TurmaRepository {
         return jpaRepository.save(turma);
     }
     
+    @Override
+    @Transactional
+    public Optional<Turma> patch(Long id, TurmaPatch patch) {
+        log.debug("Aplicando atualização parcial na turma ID: {} - {}", id, patch);
+        return jpaRepository.patchReturning(id, patch);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<Turma> findById(Long id) {
@@ -39,6 +52,13 @@ public class TurmaRepositoryImpl implements TurmaRepository {
         return jpaRepository.findAll();
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<Turma> findAllById(Collection<Long> ids) {
+        log.debug("Buscando turmas por IDs: {}", ids);
+        return jpaRepository.findAllById(ids);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Stream<Turma> findAllAsStream() {
@@ -50,14 +70,14 @@ public class TurmaRepositoryImpl implements TurmaRepository {
     @Transactional(readOnly = true)
     public List<Turma> findByNomeContaining(String nome) {
         log.debug("Buscando turmas por nome contendo: {}", nome);
-        return jpaRepository.findByNomeContainingIgnoreCase(nome);
+        return jpaRepository.findByNomeLikeIgnoreCase(TurmaFilterQuery.containing(nome));
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<Turma> findByCursoContaining(String curso) {
         log.debug("Buscando turmas por curso contendo: {}", curso);
-        return jpaRepository.findByCursoContainingIgnoreCase(curso);
+        return jpaRepository.findByCursoLikeIgnoreCase(TurmaFilterQuery.containing(curso));
     }
     
     @Override
@@ -74,6 +94,19 @@ public class TurmaRepositoryImpl implements TurmaRepository {
         return jpaRepository.findByNomeIgnoreCase(nome);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<Turma> findByNomesExatos(Collection<String> nomes) {
+        log.debug("Buscando turmas por nomes exatos: {}", nomes);
+        if (nomes.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByNomeLowerIn(nomes.stream()
+            .map(nome -> nome.toLowerCase(Locale.ROOT))
+            .distinct()
+            .toList());
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<Turma> findByCursoAndPeriodo(String curso, Integer periodo) {
@@ -137,4 +170,22 @@ public class TurmaRepositoryImpl implements TurmaRepository {
             nome, curso, periodo);
         return jpaRepository.findWithDynamicFilters(nome, curso, periodo);
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<TurmaFacetCount> countFacets(String nome, String curso, Integer periodo) {
+        log.debug("Contando turmas agrupadas por curso e período - nome: {}, curso: {}, período: {}", 
+            nome, curso, periodo);
+        return jpaRepository.countFacetsWithDynamicFilters(nome, curso, periodo);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFieldsWithFilters(
+            List<TurmaField> fields, String nome, String curso, Integer periodo) {
+        log.debug("Buscando campos {} de turmas com filtros - nome: {}, curso: {}, período: {}", 
+            fields, nome, curso, periodo);
+        
+        return jpaRepository.findFieldsWithDynamicFilters(fields, nome, curso, periodo);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package io.acordi.classroom.presentation.converter;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.acordi.classroom.application.dto.TurmaResponseDto;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+public class TurmaJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NOME = new SerializedString("nome");
+    private static final SerializedString CURSO = new SerializedString("curso");
+    private static final SerializedString PERIODO = new SerializedString("periodo");
+    private static final SerializedString DESCRICAO = new SerializedString("descricao");
+    private static final SerializedString ENCERRADA = new SerializedString("encerrada");
+    private static final SerializedString DESCRICAO_OPCIONAL = new SerializedString("descricaoOpcional");
+    
+    private static final Set<JsonInclude.Include> SUPPORTED_INCLUSIONS = EnumSet.of(
+        JsonInclude.Include.ALWAYS,
+        JsonInclude.Include.USE_DEFAULTS,
+        JsonInclude.Include.NON_NULL,
+        JsonInclude.Include.NON_ABSENT,
+        JsonInclude.Include.NON_EMPTY
+    );
+    
+    private final JsonFactory jsonFactory;
+    private final boolean indentOutput;
+    private final boolean supportedInclusion;
+    private final boolean suppressNulls;
+    private final boolean suppressAbsent;
+    private final boolean suppressEmpty;
+    
+    public TurmaJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.jsonFactory = objectMapper.getFactory();
+        this.indentOutput = objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT);
+        
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig()
+            .getDefaultPropertyInclusion(TurmaResponseDto.class)
+            .getValueInclusion();
+        this.supportedInclusion = SUPPORTED_INCLUSIONS.contains(inclusion);
+        this.suppressEmpty = inclusion == JsonInclude.Include.NON_EMPTY;
+        this.suppressAbsent = suppressEmpty || inclusion == JsonInclude.Include.NON_ABSENT;
+        this.suppressNulls = suppressAbsent || inclusion == JsonInclude.Include.NON_NULL;
+    }
+    
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return supportedInclusion && TurmaResponseDto.class == clazz;
+    }
+    
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+    
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+    
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (supports(clazz) || supportedInclusion && isTurmaCollection(type)) && canWrite(mediaType);
+    }
+    
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream output = StreamUtils.nonClosing(outputMessage.getBody());
+        try (JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+            if (indentOutput) {
+                generator.useDefaultPrettyPrinter();
+            }
+            if (body instanceof TurmaResponseDto turma) {
+                writeTurma(generator, turma);
+                return;
+            }
+            
+            generator.writeStartArray();
+            for (Object turma : (Collection<?>) body) {
+                writeTurma(generator, (TurmaResponseDto) turma);
+            }
+            generator.writeEndArray();
+        }
+    }
+    
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Conversor de turmas não lê corpos de requisição", inputMessage);
+    }
+    
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Conversor de turmas não lê corpos de requisição", inputMessage);
+    }
+    
+    private void writeTurma(JsonGenerator generator, TurmaResponseDto turma) throws IOException {
+        generator.writeStartObject();
+        
+        if (turma.id() != null) {
+            generator.writeFieldName(ID);
+            generator.writeNumber(turma.id());
+        } else {
+            writeNull(generator, ID);
+        }
+        
+        writeString(generator, NOME, turma.nome());
+        writeString(generator, CURSO, turma.curso());
+        
+        if (turma.periodo() != null) {
+            generator.writeFieldName(PERIODO);
+            generator.writeNumber(turma.periodo());
+        } else {
+            writeNull(generator, PERIODO);
+        }
+        
+        writeString(generator, DESCRICAO, turma.descricao());
+        
+        generator.writeFieldName(ENCERRADA);
+        generator.writeBoolean(turma.encerrada());
+        
+        Optional<String> descricaoOpcional = turma.getDescricaoOpcional();
+        if (descricaoOpcional.isPresent() || !suppressAbsent) {
+            writeString(generator, DESCRICAO_OPCIONAL, descricaoOpcional.orElse(null));
+        }
+        
+        generator.writeEndObject();
+    }
+    
+    private void writeString(JsonGenerator generator, SerializedString name, String value) throws IOException {
+        if (value == null) {
+            writeNull(generator, name);
+        } else if (!(suppressEmpty && value.isEmpty())) {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        }
+    }
+    
+    private void writeNull(JsonGenerator generator, SerializedString name) throws IOException {
+        if (!suppressNulls) {
+            generator.writeFieldName(name);
+            generator.writeNull();
+        }
+    }
+    
+    private static boolean isTurmaCollection(Type type) {
+        return type instanceof ParameterizedType parameterized
+            && parameterized.getRawType() instanceof Class<?> raw
+            && Collection.class.isAssignableFrom(raw)
+            && parameterized.getActualTypeArguments().length == 1
+            && parameterized.getActualTypeArguments()[0] == TurmaResponseDto.class;
+    }
+}
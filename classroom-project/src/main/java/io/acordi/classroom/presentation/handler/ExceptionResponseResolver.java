@@ -0,0 +1,35 @@
+package io.acordi.classroom.presentation.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Optional;
+
+@Component
+public class ExceptionResponseResolver {
+
+    private final GlobalExceptionHandler exceptionHandler;
+    private final ExceptionHandlerMethodResolver methodResolver;
+
+    public ExceptionResponseResolver(GlobalExceptionHandler exceptionHandler) {
+        this.exceptionHandler = exceptionHandler;
+        this.methodResolver = new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class);
+    }
+
+    public ResponseEntity<?> resolve(Exception ex, HttpServletRequest request) {
+        Method handler = Optional.ofNullable(methodResolver.resolveMethodByExceptionType(ex.getClass()))
+            .orElseThrow(() -> new IllegalStateException(
+                "Nenhum handler de exceção para " + ex.getClass().getName(), ex));
+
+        Object[] args = Arrays.stream(handler.getParameterTypes())
+            .map(type -> type.isInstance(ex) ? ex : request)
+            .toArray();
+
+        return (ResponseEntity<?>) ReflectionUtils.invokeMethod(handler, exceptionHandler, args);
+    }
+}
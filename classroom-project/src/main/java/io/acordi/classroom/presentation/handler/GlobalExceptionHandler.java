@@ -1,12 +1,17 @@
 package io.acordi.classroom.presentation.handler;
 
+import io.acordi.classroom.infrastructure.exception.ProfilingStateException;
+import io.acordi.classroom.infrastructure.exception.TurmaBatchAbortedException;
+import io.acordi.classroom.infrastructure.exception.TurmaImportInterruptedException;
 import io.acordi.classroom.infrastructure.exception.TurmaNotFoundException;
 import io.acordi.classroom.infrastructure.exception.TurmaValidationException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,6 +19,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -23,32 +29,74 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GlobalExceptionHandler {
     
+    private static final Clock CLOCK = Clock.systemDefaultZone();
+    
+    private static final HttpHeaders JSON_HEADERS = jsonHeaders();
+    
+    private static final ErrorTemplate TURMA_NOT_FOUND =
+        new ErrorTemplate(HttpStatus.NOT_FOUND, "TURMA_NOT_FOUND", null);
+    private static final ErrorTemplate TURMA_VALIDATION_ERROR =
+        new ErrorTemplate(HttpStatus.CONFLICT, "TURMA_VALIDATION_ERROR", null);
+    private static final ErrorTemplate BATCH_ABORTED =
+        new ErrorTemplate(HttpStatus.FAILED_DEPENDENCY, "BATCH_ABORTED", null);
+    private static final ErrorTemplate IMPORT_INTERRUPTED =
+        new ErrorTemplate(HttpStatus.INTERNAL_SERVER_ERROR, "IMPORT_INTERRUPTED", null);
+    private static final ErrorTemplate PROFILING_STATE_CONFLICT =
+        new ErrorTemplate(HttpStatus.CONFLICT, "PROFILING_STATE_CONFLICT", null);
+    private static final ErrorTemplate INVALID_ARGUMENT =
+        new ErrorTemplate(HttpStatus.BAD_REQUEST, "INVALID_ARGUMENT", null);
+    private static final ErrorTemplate VALIDATION_FAILED =
+        new ErrorTemplate(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Dados de entrada inválidos");
+    private static final ErrorTemplate CONSTRAINT_VIOLATION =
+        new ErrorTemplate(HttpStatus.BAD_REQUEST, "CONSTRAINT_VIOLATION", "Violação de restrições de validação");
+    private static final ErrorTemplate INVALID_PARAMETER_TYPE =
+        new ErrorTemplate(HttpStatus.BAD_REQUEST, "INVALID_PARAMETER_TYPE", null);
+    private static final ErrorTemplate MALFORMED_JSON =
+        new ErrorTemplate(HttpStatus.BAD_REQUEST, "MALFORMED_JSON", "Formato JSON inválido ou dados mal formados");
+    private static final ErrorTemplate INTERNAL_SERVER_ERROR =
+        new ErrorTemplate(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "Erro interno do servidor. Tente novamente mais tarde.");
+    
     @ExceptionHandler(TurmaNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleTurmaNotFoundException(
             TurmaNotFoundException ex, HttpServletRequest request) {
         
-        log.warn("Turma não encontrada: {}", ex.getMessage());
+        log.debug("Turma não encontrada: {}", ex.getMessage());
         
-        return buildErrorResponse(
-            HttpStatus.NOT_FOUND,
-            "TURMA_NOT_FOUND",
-            ex.getMessage(),
-            request.getRequestURI()
-        );
+        return TURMA_NOT_FOUND.toResponse(ex.getMessage(), request.getRequestURI());
     }
     
     @ExceptionHandler(TurmaValidationException.class)
     public ResponseEntity<ErrorResponse> handleTurmaValidationException(
             TurmaValidationException ex, HttpServletRequest request) {
         
-        log.warn("Erro de validação de turma: {}", ex.getMessage());
+        log.debug("Erro de validação de turma: {}", ex.getMessage());
         
-        return buildErrorResponse(
-            HttpStatus.CONFLICT,
-            "TURMA_VALIDATION_ERROR",
-            ex.getMessage(),
-            request.getRequestURI()
-        );
+        return TURMA_VALIDATION_ERROR.toResponse(ex.getMessage(), request.getRequestURI());
+    }
+    
+    @ExceptionHandler(TurmaBatchAbortedException.class)
+    public ResponseEntity<ErrorResponse> handleTurmaBatchAbortedException(
+            TurmaBatchAbortedException ex, HttpServletRequest request) {
+        
+        return BATCH_ABORTED.toResponse(ex.getMessage(), request.getRequestURI());
+    }
+    
+    @ExceptionHandler(TurmaImportInterruptedException.class)
+    public ResponseEntity<ErrorResponse> handleTurmaImportInterruptedException(
+            TurmaImportInterruptedException ex, HttpServletRequest request) {
+        
+        log.error("Importação de turmas interrompida", ex);
+        
+        return IMPORT_INTERRUPTED.toResponse(ex.getMessage(), request.getRequestURI());
+    }
+    
+    @ExceptionHandler(ProfilingStateException.class)
+    public ResponseEntity<ErrorResponse> handleProfilingStateException(
+            ProfilingStateException ex, HttpServletRequest request) {
+        
+        log.warn("Operação de profiling inválida: {}", ex.getMessage());
+        
+        return PROFILING_STATE_CONFLICT.toResponse(ex.getMessage(), request.getRequestURI());
     }
     
     @ExceptionHandler(IllegalArgumentException.class)
@@ -57,12 +105,7 @@ public class GlobalExceptionHandler {
         
         log.warn("Argumento inválido: {}", ex.getMessage());
         
-        return buildErrorResponse(
-            HttpStatus.BAD_REQUEST,
-            "INVALID_ARGUMENT",
-            ex.getMessage(),
-            request.getRequestURI()
-        );
+        return INVALID_ARGUMENT.toResponse(ex.getMessage(), request.getRequestURI());
     }
     
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -83,16 +126,7 @@ public class GlobalExceptionHandler {
             ))
             .collect(Collectors.toList());
         
-        return ResponseEntity.badRequest().body(
-            new ValidationErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.BAD_REQUEST.value(),
-                "VALIDATION_FAILED",
-                "Dados de entrada inválidos",
-                request.getRequestURI(),
-                fieldErrors
-            )
-        );
+        return VALIDATION_FAILED.toValidationResponse(request.getRequestURI(), fieldErrors);
     }
     
     @ExceptionHandler(ConstraintViolationException.class)
@@ -106,16 +140,7 @@ public class GlobalExceptionHandler {
             .map(this::mapConstraintViolation)
             .collect(Collectors.toList());
         
-        return ResponseEntity.badRequest().body(
-            new ValidationErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.BAD_REQUEST.value(),
-                "CONSTRAINT_VIOLATION",
-                "Violação de restrições de validação",
-                request.getRequestURI(),
-                fieldErrors
-            )
-        );
+        return CONSTRAINT_VIOLATION.toValidationResponse(request.getRequestURI(), fieldErrors);
     }
     
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
@@ -134,12 +159,7 @@ public class GlobalExceptionHandler {
                 .orElse("desconhecido")
         );
         
-        return buildErrorResponse(
-            HttpStatus.BAD_REQUEST,
-            "INVALID_PARAMETER_TYPE",
-            message,
-            request.getRequestURI()
-        );
+        return INVALID_PARAMETER_TYPE.toResponse(message, request.getRequestURI());
     }
     
     @ExceptionHandler(HttpMessageNotReadableException.class)
@@ -148,12 +168,7 @@ public class GlobalExceptionHandler {
         
         log.warn("Erro ao ler mensagem HTTP: {}", ex.getMessage());
         
-        return buildErrorResponse(
-            HttpStatus.BAD_REQUEST,
-            "MALFORMED_JSON",
-            "Formato JSON inválido ou dados mal formados",
-            request.getRequestURI()
-        );
+        return MALFORMED_JSON.toResponse(request.getRequestURI());
     }
     
     @ExceptionHandler(Exception.class)
@@ -162,26 +177,7 @@ public class GlobalExceptionHandler {
         
         log.error("Erro interno do servidor", ex);
         
-        return buildErrorResponse(
-            HttpStatus.INTERNAL_SERVER_ERROR,
-            "INTERNAL_SERVER_ERROR",
-            "Erro interno do servidor. Tente novamente mais tarde.",
-            request.getRequestURI()
-        );
-    }
-    
-    private ResponseEntity<ErrorResponse> buildErrorResponse(
-            HttpStatus status, String errorCode, String message, String path) {
-        
-        return ResponseEntity.status(status).body(
-            new ErrorResponse(
-                LocalDateTime.now(),
-                status.value(),
-                errorCode,
-                message,
-                path
-            )
-        );
+        return INTERNAL_SERVER_ERROR.toResponse(request.getRequestURI());
     }
     
     private FieldError mapConstraintViolation(ConstraintViolation<?> violation) {
@@ -195,6 +191,37 @@ public class GlobalExceptionHandler {
         );
     }
     
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+    
+    private record ErrorTemplate(HttpStatus status, int statusCode, String error, String message) {
+        
+        ErrorTemplate(HttpStatus status, String error, String message) {
+            this(status, status.value(), error, message);
+        }
+        
+        ResponseEntity<ErrorResponse> toResponse(String path) {
+            return toResponse(message, path);
+        }
+        
+        ResponseEntity<ErrorResponse> toResponse(String detail, String path) {
+            return new ResponseEntity<>(
+                new ErrorResponse(LocalDateTime.now(CLOCK), statusCode, error, detail, path),
+                JSON_HEADERS,
+                status);
+        }
+        
+        ResponseEntity<ValidationErrorResponse> toValidationResponse(String path, List<FieldError> fieldErrors) {
+            return new ResponseEntity<>(
+                new ValidationErrorResponse(LocalDateTime.now(CLOCK), statusCode, error, message, path, fieldErrors),
+                JSON_HEADERS,
+                status);
+        }
+    }
+    
     public record ErrorResponse(
         LocalDateTime timestamp,
         int status,
@@ -0,0 +1,94 @@
+package io.acordi.classroom.presentation.rest;
+
+import io.acordi.classroom.application.dto.ProfilingRecordingDto;
+import io.acordi.classroom.infrastructure.profiling.TurmaProfilingRecorder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/admin/profiling")
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+@ConditionalOnProperty(prefix = "classroom.profiling", name = "enabled", havingValue = "true")
+@Tag(name = "Profiling", description = "Gravações JFR sob demanda com os eventos de turmas")
+public class ProfilingController {
+    
+    private final TurmaProfilingRecorder profilingRecorder;
+    
+    @PostMapping("/recording")
+    @Operation(summary = "Iniciar gravação", description = "Inicia uma gravação JFR limitada em duração e tamanho")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Gravação iniciada"),
+        @ApiResponse(responseCode = "400", description = "Duração ou configuração inválida"),
+        @ApiResponse(responseCode = "409", description = "Já existe uma gravação em andamento")
+    })
+    public ResponseEntity<ProfilingRecordingDto> startRecording(
+            @Parameter(description = "Duração máxima da gravação em segundos")
+            @RequestParam(defaultValue = "60") @Min(1) long durationSeconds,
+            @Parameter(description = "Configuração base do JVM: default ou profile")
+            @RequestParam(defaultValue = "default") String settings) {
+        
+        log.info("Iniciando gravação JFR - duração: {}s, configuração: {}", durationSeconds, settings);
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(profilingRecorder.start(Duration.ofSeconds(durationSeconds), settings));
+    }
+    
+    @GetMapping("/recording")
+    @Operation(summary = "Consultar gravação", description = "Retorna o estado da gravação atual")
+    public ResponseEntity<ProfilingRecordingDto> getRecording() {
+        return ResponseEntity.ok(profilingRecorder.status());
+    }
+    
+    @PostMapping("/recording/stop")
+    @Operation(summary = "Encerrar gravação", description = "Encerra a gravação atual antes do fim da duração")
+    public ResponseEntity<ProfilingRecordingDto> stopRecording() {
+        log.info("Encerrando gravação JFR");
+        
+        return ResponseEntity.ok(profilingRecorder.stop());
+    }
+    
+    @GetMapping(path = "/recording/file", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(
+        summary = "Baixar gravação", 
+        description = "Baixa o arquivo .jfr com os dados gravados até o momento; pode ser aberto no JDK Mission Control ou com 'jfr print'"
+    )
+    public ResponseEntity<StreamingResponseBody> downloadRecording() {
+        Path arquivo = profilingRecorder.dump();
+        
+        StreamingResponseBody body = output -> {
+            try {
+                Files.copy(arquivo, output);
+            } finally {
+                Files.deleteIfExists(arquivo);
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(arquivo.getFileName().toString())
+                .build()
+                .toString())
+            .body(body);
+    }
+}
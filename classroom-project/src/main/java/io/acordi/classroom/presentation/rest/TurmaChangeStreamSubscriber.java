@@ -0,0 +1,107 @@
+package io.acordi.classroom.presentation.rest;
+
+import io.acordi.classroom.application.service.TurmaChangeFeedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Slf4j
+final class TurmaChangeStreamSubscriber implements TurmaChangeFeedService.Subscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+    private final Executor sender;
+    private final Consumer<TurmaChangeStreamSubscriber> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    TurmaChangeStreamSubscriber(
+            SseEmitter emitter,
+            int queueCapacity,
+            Executor sender,
+            Consumer<TurmaChangeStreamSubscriber> onClose) {
+
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sender = sender;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public boolean offer(TurmaChangeFeedService.FeedEntry entry) {
+        return enqueue(SseEmitter.event()
+            .id(Long.toString(entry.sequence()))
+            .name(entry.name())
+            .data(entry.payload()));
+    }
+
+    boolean heartbeat() {
+        return enqueue(SseEmitter.event().comment("heartbeat"));
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            onClose.accept(this);
+            scheduleDrain();
+        }
+    }
+
+    private boolean enqueue(SseEmitter.SseEventBuilder event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!queue.offer(event)) {
+            log.warn("Fila do inscrito cheia ({} eventos); desconectando cliente lento do feed de turmas",
+                queue.size());
+            close();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                draining.set(false);
+                log.debug("Envio do feed de turmas encerrado; descartando eventos do inscrito");
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = queue.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Removendo inscrito desconectado do feed de turmas: {}", ex.getMessage());
+            close();
+        } finally {
+            draining.set(false);
+            if (closed.get()) {
+                complete();
+            } else if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private void complete() {
+        if (completed.compareAndSet(false, true)) {
+            emitter.complete();
+        }
+    }
+}
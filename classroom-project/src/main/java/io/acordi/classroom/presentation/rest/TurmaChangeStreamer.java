@@ -0,0 +1,88 @@
+package io.acordi.classroom.presentation.rest;
+
+import io.acordi.classroom.application.service.TurmaChangeFeedService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class TurmaChangeStreamer {
+
+    private final TurmaChangeFeedService feedService;
+    private final long emitterTimeoutMillis;
+    private final int subscriberQueueCapacity;
+    private final Set<TurmaChangeStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats;
+
+    public TurmaChangeStreamer(
+            TurmaChangeFeedService feedService,
+            @Value("${classroom.feed.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${classroom.feed.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+            @Value("${classroom.feed.subscriber-queue-capacity:2048}") int subscriberQueueCapacity,
+            @Value("${classroom.feed.sender-threads:4}") int senderThreads) {
+
+        this.feedService = feedService;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.subscriberQueueCapacity = subscriberQueueCapacity;
+        this.senders = Executors.newFixedThreadPool(senderThreads, daemonThreads("turma-change-feed-sender-"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("turma-change-feed-heartbeat-"));
+        heartbeats.scheduleAtFixedRate(
+            this::sendHeartbeat, heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter open(Optional<Long> lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        TurmaChangeStreamSubscriber subscriber = new TurmaChangeStreamSubscriber(
+            emitter, subscriberQueueCapacity, senders, this::remove);
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        subscribers.add(subscriber);
+        if (!feedService.subscribe(lastEventId, subscriber)) {
+            subscriber.close();
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        List.copyOf(subscribers).forEach(TurmaChangeStreamSubscriber::close);
+        senders.shutdown();
+    }
+
+    private void remove(TurmaChangeStreamSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        feedService.unsubscribe(subscriber);
+    }
+
+    private void sendHeartbeat() {
+        subscribers.forEach(TurmaChangeStreamSubscriber::heartbeat);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
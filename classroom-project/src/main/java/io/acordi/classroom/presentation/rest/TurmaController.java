@@ -1,25 +1,45 @@
 package io.acordi.classroom.presentation.rest;
 
+import io.acordi.classroom.application.dto.TurmaBatchRequestDto;
+import io.acordi.classroom.application.dto.TurmaBatchResponseDto;
+import io.acordi.classroom.application.dto.TurmaBatchResultDto;
+import io.acordi.classroom.application.dto.TurmaFacetsResponseDto;
+import io.acordi.classroom.application.dto.TurmaImportResultDto;
+import io.acordi.classroom.application.dto.TurmaPatchRequestDto;
 import io.acordi.classroom.application.dto.TurmaRequestDto;
 import io.acordi.classroom.application.dto.TurmaResponseDto;
+import io.acordi.classroom.application.dto.TurmaSuggestionDto;
+import io.acordi.classroom.application.service.TurmaArchiveService;
+import io.acordi.classroom.application.service.TurmaBatchService;
 import io.acordi.classroom.application.service.TurmaService;
+import io.acordi.classroom.application.service.TurmaSuggestionService;
+import io.acordi.classroom.presentation.handler.ExceptionResponseResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -31,6 +51,11 @@ import java.util.Optional;
 public class TurmaController {
     
     private final TurmaService turmaService;
+    private final TurmaChangeStreamer turmaChangeStreamer;
+    private final TurmaSuggestionService turmaSuggestionService;
+    private final TurmaBatchService turmaBatchService;
+    private final TurmaArchiveService turmaArchiveService;
+    private final ExceptionResponseResolver exceptionResponseResolver;
     
     @PostMapping
     @Operation(summary = "Criar nova turma", description = "Cria uma nova turma no sistema")
@@ -50,6 +75,51 @@ public class TurmaController {
             .orElseThrow();
     }
     
+    @PostMapping("/batch")
+    @Operation(
+        summary = "Executar lote de operações",
+        description = "Aplica, em ordem, operações CREATE, UPDATE, PATCH e DELETE com os mesmos corpos dos endpoints individuais. No modo ATOMIC (padrão) a primeira falha desfaz o lote; no modo PER_OPERATION cada operação é confirmada separadamente. Cada resultado traz o status e o corpo que o endpoint individual retornaria."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Lote processado; consulte o status de cada operação"),
+        @ApiResponse(responseCode = "400", description = "Envelope inválido ou acima do limite de operações")
+    })
+    public ResponseEntity<TurmaBatchResponseDto> executeBatch(
+            @Valid @RequestBody TurmaBatchRequestDto requestDto,
+            HttpServletRequest request) {
+        
+        log.info("Recebido lote de {} operações no modo {}", requestDto.operacoes().size(), requestDto.modo());
+        
+        List<TurmaBatchResultDto> resultados = turmaBatchService.execute(requestDto).stream()
+            .map(outcome -> outcome.sucesso()
+                ? new TurmaBatchResultDto(outcome.indice(), outcome.tipo(), successStatus(outcome), outcome.turma())
+                : toErrorResult(outcome, request))
+            .toList();
+        
+        boolean sucesso = resultados.stream().allMatch(resultado -> resultado.status() < 400);
+        return ResponseEntity.ok(new TurmaBatchResponseDto(requestDto.modo(), sucesso, resultados));
+    }
+    
+    @PostMapping(path = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "Importar turmas via CSV",
+        description = "Importa um arquivo CSV (UTF-8, cabeçalho nome,curso,periodo,descricao) em lote. Registros inválidos ou com nome já existente são rejeitados e listadas no relatório."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Importação processada"),
+        @ApiResponse(responseCode = "400", description = "Arquivo CSV inválido")
+    })
+    public ResponseEntity<TurmaImportResultDto> importTurmas(
+            @Parameter(description = "Arquivo CSV com as turmas", required = true)
+            @RequestParam("file") MultipartFile file) throws IOException {
+        
+        log.info("Requisição de importação de turmas: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+        
+        try (InputStream csv = file.getInputStream()) {
+            return ResponseEntity.ok(turmaService.importCsv(csv));
+        }
+    }
+    
     @GetMapping("/{turmaId}")
     @Operation(summary = "Buscar turma por ID", description = "Retorna uma turma específica pelo seu ID")
     @ApiResponses({
@@ -81,9 +151,17 @@ public class TurmaController {
             @Parameter(description = "Filtro por curso (busca parcial, case-insensitive)")
             @RequestParam Optional<String> curso,
             @Parameter(description = "Filtro por período exato")
-            @RequestParam Optional<@Min(1) Integer> periodo) {
+            @RequestParam Optional<@Min(1) Integer> periodo,
+            @Parameter(description = "Inclui as turmas arquivadas no resultado")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         
-        log.debug("Requisição de busca de turmas - nome: {}, curso: {}, período: {}", nome, curso, periodo);
+        log.debug("Requisição de busca de turmas - nome: {}, curso: {}, período: {}, arquivadas: {}", 
+            nome, curso, periodo, includeArchived);
+        
+        if (includeArchived) {
+            List<TurmaResponseDto> turmas = turmaService.findWithFiltersIncludingArchived(nome, curso, periodo);
+            return turmas.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(turmas);
+        }
         
         // Se nenhum filtro, retorna todas as turmas
         if (nome.isEmpty() && curso.isEmpty() && periodo.isEmpty()) {
@@ -96,6 +174,37 @@ public class TurmaController {
         return turmas.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(turmas);
     }
     
+    @GetMapping(params = "fields")
+    @Operation(
+        summary = "Buscar turmas com campos selecionados",
+        description = "Mesma busca de turmas, mas retorna apenas os campos informados em 'fields' (ex.: id,nome,periodo). A seleção é aplicada na consulta ao banco."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Lista de turmas retornada"),
+        @ApiResponse(responseCode = "204", description = "Nenhuma turma encontrada"),
+        @ApiResponse(responseCode = "400", description = "Campo inválido")
+    })
+    public ResponseEntity<List<Map<String, Object>>> getTurmaFields(
+            @Parameter(description = "Campos retornados: id, nome, curso, periodo, descricao", required = true)
+            @RequestParam String fields,
+            @Parameter(description = "Filtro por nome (busca parcial, case-insensitive)")
+            @RequestParam Optional<String> nome,
+            @Parameter(description = "Filtro por curso (busca parcial, case-insensitive)")
+            @RequestParam Optional<String> curso,
+            @Parameter(description = "Filtro por período exato")
+            @RequestParam Optional<@Min(1) Integer> periodo,
+            @Parameter(description = "Inclui as turmas arquivadas no resultado")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        
+        log.debug("Requisição de busca de turmas com campos {} - nome: {}, curso: {}, período: {}, arquivadas: {}", 
+            fields, nome, curso, periodo, includeArchived);
+        
+        List<Map<String, Object>> turmas = includeArchived
+            ? turmaService.findFieldsWithFiltersIncludingArchived(fields, nome, curso, periodo)
+            : turmaService.findFieldsWithFilters(fields, nome, curso, periodo);
+        return turmas.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(turmas);
+    }
+    
     @GetMapping("/stats/curso/{curso}")
     @Operation(summary = "Contar turmas por curso", description = "Retorna a quantidade de turmas de um curso")
     public ResponseEntity<Long> countByCurso(
@@ -114,6 +223,112 @@ public class TurmaController {
         return ResponseEntity.ok(turmaService.countByPeriodo(periodo));
     }
     
+    @GetMapping("/stats/facets")
+    @Operation(
+        summary = "Contar turmas por curso e período",
+        description = "Retorna, em uma única consulta, a matriz de quantidades por curso e período com seus totais. Aceita os mesmos filtros opcionais da busca de turmas."
+    )
+    public ResponseEntity<TurmaFacetsResponseDto> countFacets(
+            @Parameter(description = "Filtro por nome (busca parcial, case-insensitive)")
+            @RequestParam Optional<String> nome,
+            @Parameter(description = "Filtro por curso (busca parcial, case-insensitive)")
+            @RequestParam Optional<String> curso,
+            @Parameter(description = "Filtro por período exato")
+            @RequestParam Optional<@Min(1) Integer> periodo) {
+        
+        return ResponseEntity.ok(turmaService.countFacets(nome, curso, periodo));
+    }
+    
+    @GetMapping("/suggestions")
+    @Operation(
+        summary = "Sugerir nomes ou cursos",
+        description = "Autocompletar servido por um índice em memória, sem acesso ao banco. A busca ignora acentos e maiúsculas e casa com o início de qualquer palavra."
+    )
+    public ResponseEntity<List<TurmaSuggestionDto>> suggest(
+            @Parameter(description = "Campo a sugerir: nome ou curso", required = true)
+            @RequestParam @NotBlank String campo,
+            @Parameter(description = "Texto digitado", required = true)
+            @RequestParam @NotBlank String q,
+            @Parameter(description = "Quantidade máxima de sugestões")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        
+        return ResponseEntity.ok(turmaSuggestionService.suggest(campo, q, limit));
+    }
+    
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Acompanhar alterações de turmas",
+        description = "Feed SSE com eventos de criação, atualização e remoção. Envie Last-Event-ID para retomar a partir da última sequência recebida; um evento 'reset' indica que a lista completa deve ser recarregada."
+    )
+    @ApiResponse(responseCode = "200", description = "Feed de alterações iniciado")
+    public SseEmitter streamChanges(
+            @Parameter(description = "Última sequência recebida pelo cliente")
+            @RequestHeader(name = "Last-Event-ID", required = false) Optional<Long> lastEventId) {
+        
+        log.debug("Inscrição no feed de alterações - última sequência: {}", lastEventId);
+        
+        return turmaChangeStreamer.open(lastEventId);
+    }
+    
+    @PostMapping("/{turmaId}/close")
+    @Operation(summary = "Encerrar turma", description = "Marca a turma como encerrada; o arquivador periódico a move para o arquivo no próximo lote")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Turma encerrada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Turma não encontrada")
+    })
+    public ResponseEntity<TurmaResponseDto> closeTurma(
+            @Parameter(description = "ID da turma", required = true)
+            @PathVariable @Min(1) Long turmaId) {
+        
+        log.info("Encerrando turma ID: {}", turmaId);
+        
+        return ResponseEntity.ok(turmaArchiveService.closeById(turmaId));
+    }
+    
+    @PostMapping("/{turmaId}/archive")
+    @Operation(summary = "Arquivar turma", description = "Move a turma para o arquivo; ela deixa de aparecer nas buscas padrão")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Turma arquivada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Turma não encontrada")
+    })
+    public ResponseEntity<TurmaResponseDto> archiveTurma(
+            @Parameter(description = "ID da turma", required = true)
+            @PathVariable @Min(1) Long turmaId) {
+        
+        log.info("Arquivando turma ID: {}", turmaId);
+        
+        return ResponseEntity.ok(turmaArchiveService.archiveById(turmaId));
+    }
+    
+    @GetMapping("/archived/{turmaId}")
+    @Operation(summary = "Buscar turma arquivada", description = "Retorna uma turma arquivada pelo ID")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Turma arquivada encontrada"),
+        @ApiResponse(responseCode = "404", description = "Turma arquivada não encontrada")
+    })
+    public ResponseEntity<TurmaResponseDto> getArchivedTurmaById(
+            @Parameter(description = "ID da turma", required = true)
+            @PathVariable @Min(1) Long turmaId) {
+        
+        return ResponseEntity.ok(turmaArchiveService.findArchivedById(turmaId));
+    }
+    
+    @PostMapping("/archived/{turmaId}/restore")
+    @Operation(summary = "Restaurar turma", description = "Devolve uma turma arquivada para a tabela ativa, mantendo o ID")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Turma restaurada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Turma arquivada não encontrada"),
+        @ApiResponse(responseCode = "409", description = "Já existe uma turma ativa com o mesmo nome")
+    })
+    public ResponseEntity<TurmaResponseDto> restoreTurma(
+            @Parameter(description = "ID da turma", required = true)
+            @PathVariable @Min(1) Long turmaId) {
+        
+        log.info("Restaurando turma ID: {}", turmaId);
+        
+        return ResponseEntity.ok(turmaArchiveService.restoreById(turmaId));
+    }
+    
     @PutMapping("/{turmaId}")
     @Operation(summary = "Atualizar turma", description = "Atualiza uma turma existente")
     @ApiResponses({
@@ -131,6 +346,24 @@ public class TurmaController {
         return ResponseEntity.ok(turmaService.updateTurma(turmaId, requestDto));
     }
     
+    @PatchMapping("/{turmaId}")
+    @Operation(summary = "Atualizar turma parcialmente", 
+               description = "Altera apenas os campos informados; descrição vazia remove a descrição atual")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Turma atualizada com sucesso"),
+        @ApiResponse(responseCode = "404", description = "Turma não encontrada"),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos ou nenhum campo informado")
+    })
+    public ResponseEntity<TurmaResponseDto> patchTurma(
+            @Parameter(description = "ID da turma", required = true)
+            @PathVariable @Min(1) Long turmaId,
+            @Valid @RequestBody TurmaPatchRequestDto requestDto) {
+        
+        log.info("Atualizando parcialmente turma ID: {}", turmaId);
+        
+        return ResponseEntity.ok(turmaService.patchTurma(turmaId, requestDto));
+    }
+    
     @DeleteMapping("/{turmaId}")
     @Operation(summary = "Deletar turma", description = "Remove uma turma do sistema")
     @ApiResponses({
@@ -157,5 +390,16 @@ public class TurmaController {
         return ResponseEntity.created(location).body(turma);
     }
     
-
-}
\ No newline at end of file
+    private int successStatus(TurmaBatchService.Outcome outcome) {
+        return switch (outcome.tipo()) {
+            case CREATE -> HttpStatus.CREATED.value();
+            case DELETE -> HttpStatus.NO_CONTENT.value();
+            default -> HttpStatus.OK.value();
+        };
+    }
+    
+    private TurmaBatchResultDto toErrorResult(TurmaBatchService.Outcome outcome, HttpServletRequest request) {
+        ResponseEntity<?> erro = exceptionResponseResolver.resolve(outcome.erro(), request);
+        return new TurmaBatchResultDto(outcome.indice(), outcome.tipo(), erro.getStatusCode().value(), erro.getBody());
+    }
+}
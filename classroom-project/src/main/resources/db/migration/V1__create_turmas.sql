@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS turmas (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome      VARCHAR(100) NOT NULL,
+    curso     VARCHAR(100) NOT NULL,
+    periodo   INTEGER      NOT NULL,
+    descricao VARCHAR(500)
+);
@@ -0,0 +1,8 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_turmas_lower_curso_periodo ON turmas (lower(curso), periodo);
+CREATE INDEX IF NOT EXISTS idx_turmas_lower_nome ON turmas (lower(nome));
+CREATE INDEX IF NOT EXISTS idx_turmas_periodo ON turmas (periodo);
+
+CREATE INDEX IF NOT EXISTS idx_turmas_lower_nome_trgm ON turmas USING gin (lower(nome) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_turmas_lower_curso_trgm ON turmas USING gin (lower(curso) gin_trgm_ops);
@@ -0,0 +1,17 @@
+ALTER TABLE turmas ADD COLUMN IF NOT EXISTS criada_em TIMESTAMP NOT NULL DEFAULT now();
+
+CREATE INDEX IF NOT EXISTS idx_turmas_criada_em ON turmas (criada_em);
+
+CREATE TABLE IF NOT EXISTS turmas_arquivadas (
+    id           BIGINT       PRIMARY KEY,
+    nome         VARCHAR(100) NOT NULL,
+    curso        VARCHAR(100) NOT NULL,
+    periodo      INTEGER      NOT NULL,
+    descricao    VARCHAR(500),
+    criada_em    TIMESTAMP    NOT NULL,
+    arquivada_em TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_turmas_arquivadas_lower_curso_periodo ON turmas_arquivadas (lower(curso), periodo);
+CREATE INDEX IF NOT EXISTS idx_turmas_arquivadas_lower_nome ON turmas_arquivadas (lower(nome));
+CREATE INDEX IF NOT EXISTS idx_turmas_arquivadas_periodo ON turmas_arquivadas (periodo);
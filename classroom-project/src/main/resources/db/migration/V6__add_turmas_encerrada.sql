@@ -0,0 +1,3 @@
+ALTER TABLE turmas ADD COLUMN IF NOT EXISTS encerrada BOOLEAN NOT NULL DEFAULT false;
+
+CREATE INDEX IF NOT EXISTS idx_turmas_encerrada ON turmas (criada_em) WHERE encerrada;
@@ -0,0 +1,9 @@
+DO $incremento$
+BEGIN
+    IF (SELECT attidentity FROM pg_attribute WHERE attrelid = 'turmas'::regclass AND attname = 'id') <> '' THEN
+        ALTER TABLE turmas ALTER COLUMN id SET INCREMENT BY 50;
+    ELSE
+        ALTER SEQUENCE turmas_id_seq INCREMENT BY 50;
+    END IF;
+END
+$incremento$;
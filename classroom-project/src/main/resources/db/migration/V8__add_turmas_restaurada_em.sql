@@ -0,0 +1,4 @@
+ALTER TABLE turmas ADD COLUMN IF NOT EXISTS restaurada_em TIMESTAMP;
+ALTER TABLE turmas_arquivadas ADD COLUMN IF NOT EXISTS encerrada BOOLEAN NOT NULL DEFAULT false;
+
+CREATE INDEX IF NOT EXISTS idx_turmas_referencia_arquivamento ON turmas (COALESCE(restaurada_em, criada_em));
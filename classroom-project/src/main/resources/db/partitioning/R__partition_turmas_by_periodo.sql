@@ -0,0 +1,70 @@
+DO $particionamento$
+DECLARE
+    indices TEXT[];
+    definicao TEXT;
+    particao INTEGER;
+    incremento BIGINT;
+BEGIN
+    IF (SELECT relkind FROM pg_class
+        WHERE relname = 'turmas' AND relnamespace = current_schema()::regnamespace) = 'p' THEN
+        RETURN;
+    END IF;
+
+    SELECT COALESCE(array_agg(indexdef), ARRAY[]::TEXT[]) INTO indices
+    FROM pg_indexes
+    WHERE schemaname = current_schema() AND tablename = 'turmas' AND indexname <> 'turmas_pkey';
+
+    SELECT seqincrement INTO incremento
+    FROM pg_sequence
+    WHERE seqrelid = pg_get_serial_sequence('turmas', 'id')::regclass;
+
+    ALTER TABLE turmas RENAME TO turmas_legado;
+    ALTER TABLE turmas_legado RENAME CONSTRAINT turmas_pkey TO turmas_legado_pkey;
+
+    CREATE TABLE turmas (
+        LIKE turmas_legado INCLUDING DEFAULTS,
+        PRIMARY KEY (id, periodo)
+    ) PARTITION BY LIST (periodo);
+
+    FOR particao IN 1..10 LOOP
+        EXECUTE format('CREATE TABLE turmas_p%s PARTITION OF turmas FOR VALUES IN (%s)', particao, particao);
+    END LOOP;
+
+    INSERT INTO turmas SELECT * FROM turmas_legado;
+
+    DROP TABLE turmas_legado;
+
+    EXECUTE format('CREATE SEQUENCE turmas_id_seq INCREMENT BY %s OWNED BY turmas.id', incremento);
+    PERFORM setval('turmas_id_seq', GREATEST(
+        COALESCE((SELECT MAX(id) FROM turmas), 0),
+        COALESCE((SELECT MAX(id) FROM turmas_arquivadas), 0)
+    ) + incremento, false);
+    ALTER TABLE turmas ALTER COLUMN id SET DEFAULT nextval('turmas_id_seq');
+
+    CREATE TABLE turmas_ids (
+        id BIGINT PRIMARY KEY
+    );
+
+    INSERT INTO turmas_ids (id) SELECT id FROM turmas;
+
+    CREATE FUNCTION turmas_registrar_id() RETURNS trigger AS $registrar$
+    BEGIN
+        IF TG_OP IN ('DELETE', 'UPDATE') THEN
+            DELETE FROM turmas_ids WHERE id = OLD.id;
+        END IF;
+        IF TG_OP IN ('INSERT', 'UPDATE') THEN
+            INSERT INTO turmas_ids (id) VALUES (NEW.id);
+        END IF;
+        RETURN NULL;
+    END;
+    $registrar$ LANGUAGE plpgsql;
+
+    CREATE TRIGGER turmas_id_unico
+        AFTER INSERT OR DELETE OR UPDATE OF id ON turmas
+        FOR EACH ROW EXECUTE FUNCTION turmas_registrar_id();
+
+    FOREACH definicao IN ARRAY indices LOOP
+        EXECUTE definicao;
+    END LOOP;
+END
+$particionamento$;
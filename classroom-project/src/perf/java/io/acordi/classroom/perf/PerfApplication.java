@@ -0,0 +1,56 @@
+package io.acordi.classroom.perf;
+
+import io.acordi.classroom.ClassroomApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public final class PerfApplication {
+
+    public static final String PROFILE = "perf";
+
+    private PerfApplication() {
+    }
+
+    @SafeVarargs
+    public static ConfigurableApplicationContext start(
+            Map<String, Object> properties,
+            ApplicationContextInitializer<ConfigurableApplicationContext>... initializers) {
+
+        Map<String, Object> effective = new HashMap<>(postgresOverrides());
+        effective.putAll(properties);
+
+        return new SpringApplicationBuilder(ClassroomApplication.class)
+            .profiles(PROFILE)
+            .properties(effective)
+            .initializers(initializers)
+            .run();
+    }
+
+    public static boolean usesPostgres() {
+        return jdbcUrl().isPresent();
+    }
+
+    private static Map<String, Object> postgresOverrides() {
+        return jdbcUrl()
+            .map(url -> Map.<String, Object>of(
+                "spring.datasource.url", url,
+                "spring.datasource.username", System.getProperty("perf.username", "postgres"),
+                "spring.datasource.password", System.getProperty("perf.password", "postgres"),
+                "spring.datasource.driver-class-name", "org.postgresql.Driver",
+                "spring.flyway.enabled", "true",
+                "spring.jpa.hibernate.ddl-auto", "validate",
+                "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect"
+            ))
+            .orElse(Map.of());
+    }
+
+    private static Optional<String> jdbcUrl() {
+        return Optional.ofNullable(System.getProperty("perf.jdbcUrl"))
+            .filter(url -> !url.isBlank());
+    }
+}
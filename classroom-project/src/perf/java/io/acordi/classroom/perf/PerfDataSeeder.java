@@ -0,0 +1,58 @@
+package io.acordi.classroom.perf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+@Slf4j
+public final class PerfDataSeeder {
+
+    public static final int CURSOS = 40;
+    public static final int PERIODOS = 10;
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String INSERT_SQL =
+        "INSERT INTO turmas (nome, curso, periodo, descricao) VALUES (?, ?, ?, ?)";
+
+    private PerfDataSeeder() {
+    }
+
+    public static List<Long> seed(JdbcTemplate jdbcTemplate, int count, long randomSeed) {
+        log.info("Populando {} turmas para execução de desempenho", count);
+
+        Random random = new Random(randomSeed);
+        String prefix = "Turma " + Long.toHexString(randomSeed ^ System.nanoTime()) + " ";
+
+        for (int start = 0; start < count; start += BATCH_SIZE) {
+            List<Object[]> batch = IntStream.range(start, Math.min(start + BATCH_SIZE, count))
+                .mapToObj(index -> new Object[] {
+                    prefix + index,
+                    cursoName(index % CURSOS),
+                    1 + random.nextInt(PERIODOS),
+                    random.nextBoolean() ? descricao(random) : null
+                })
+                .toList();
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+
+        return new ArrayList<>(jdbcTemplate.queryForList(
+            "SELECT id FROM turmas WHERE nome LIKE ?", Long.class, prefix + "%"));
+    }
+
+    public static String cursoName(int index) {
+        return "Curso " + index;
+    }
+
+    private static String descricao(Random random) {
+        StringBuilder builder = new StringBuilder("Turma gerada para testes de desempenho");
+        int extra = random.nextInt(400);
+        while (builder.length() < extra) {
+            builder.append(" conteúdo");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package io.acordi.classroom.perf;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+
+public final class PerfFixture implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final MockMvc mockMvc;
+    private final List<Long> seededIds;
+
+    private PerfFixture(ConfigurableApplicationContext context, List<Long> seededIds) {
+        this.context = context;
+        this.mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        this.seededIds = seededIds;
+    }
+
+    public static PerfFixture start(int seedSize) {
+        ConfigurableApplicationContext context = PerfApplication.start(Map.of("server.port", 0));
+        List<Long> seededIds = PerfDataSeeder.seed(context.getBean(JdbcTemplate.class), seedSize, 42L);
+        return new PerfFixture(context, seededIds);
+    }
+
+    public MockMvc mockMvc() {
+        return mockMvc;
+    }
+
+    public List<Long> seededIds() {
+        return seededIds;
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public <T> Map<String, T> beansOfType(Class<T> type) {
+        return context.getBeansOfType(type);
+    }
+
+    public String nomeOf(long id) {
+        return bean(JdbcTemplate.class).queryForObject("SELECT nome FROM turmas WHERE id = ?", String.class, id);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
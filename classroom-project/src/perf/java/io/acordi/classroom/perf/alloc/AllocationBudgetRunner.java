@@ -0,0 +1,276 @@
+package io.acordi.classroom.perf.alloc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.acordi.classroom.application.service.TurmaArchiveService;
+import io.acordi.classroom.perf.PerfApplication;
+import io.acordi.classroom.perf.PerfDataSeeder;
+import io.acordi.classroom.perf.PerfFixture;
+import io.acordi.classroom.presentation.rest.TurmaController;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+@Slf4j
+public final class AllocationBudgetRunner {
+
+    private static final String BUDGETS_RESOURCE = "/allocation-budgets.properties";
+    private static final int SEED_SIZE = 50;
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("perf.alloc.warmup", 2_000);
+    private static final int MEASURED_ITERATIONS = Integer.getInteger("perf.alloc.iterations", 500);
+    private static final double RECORD_HEADROOM = 1.2;
+    private static final Set<String> UNMEASURED_ENDPOINTS = Set.of("streamChanges");
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, List<Long>> pools = new HashMap<>();
+
+    private AllocationBudgetRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new AllocationBudgetRunner().run();
+    }
+
+    private void run() throws Exception {
+        Map<String, Long> budgets = loadBudgets();
+        Map<String, Long> measured = new LinkedHashMap<>();
+        List<String> violations = new ArrayList<>();
+
+        try (PerfFixture fixture = PerfFixture.start(SEED_SIZE)) {
+            List<AllocationScenario> scenarios = scenarios(fixture);
+            violations.addAll(uncoveredEndpoints(fixture, scenarios));
+
+            for (AllocationScenario scenario : scenarios) {
+                if (!budgets.containsKey(scenario.name())) {
+                    violations.add(scenario.name() + " não possui orçamento em " + BUDGETS_RESOURCE);
+                }
+                if (scenario.postgresOnly() && !PerfApplication.usesPostgres()) {
+                    log.warn("{}: não medido sem PostgreSQL (informe -Dperf.jdbcUrl)", scenario.name());
+                    continue;
+                }
+                measured.put(scenario.name(), measure(fixture.mockMvc(), scenario));
+            }
+        }
+
+        if (Boolean.getBoolean("perf.alloc.record")) {
+            writeRecordedBudgets(measured);
+        }
+
+        measured.forEach((scenario, bytes) -> {
+            Long budget = budgets.get(scenario);
+            log.info("{}: {} bytes/requisição (orçamento: {})", scenario, bytes, budget);
+            if (budget != null && bytes > budget) {
+                violations.add(scenario + " alocou " + bytes + " bytes/requisição, acima do orçamento de " + budget);
+            }
+        });
+
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Orçamento de alocação excedido:\n - " + String.join("\n - ", violations));
+        }
+    }
+
+    private List<String> uncoveredEndpoints(PerfFixture fixture, List<AllocationScenario> scenarios) {
+        Set<String> covered = scenarios.stream()
+            .map(AllocationScenario::endpoint)
+            .collect(Collectors.toSet());
+
+        return fixture.beansOfType(RequestMappingHandlerMapping.class).values().stream()
+            .flatMap(mapping -> mapping.getHandlerMethods().entrySet().stream())
+            .filter(entry -> entry.getValue().getBeanType() == TurmaController.class)
+            .filter(entry -> !covered.contains(entry.getValue().getMethod().getName()))
+            .filter(entry -> !UNMEASURED_ENDPOINTS.contains(entry.getValue().getMethod().getName()))
+            .map(entry -> "endpoint " + entry.getKey() + " (" + entry.getValue().getMethod().getName()
+                + ") não possui cenário de alocação")
+            .sorted()
+            .toList();
+    }
+
+    private List<AllocationScenario> scenarios(PerfFixture fixture) {
+        List<Long> seededIds = fixture.seededIds();
+        long existingId = seededIds.get(0);
+
+        return List.of(
+            scenario("getById", "getTurmaById", 200,
+                iteration -> get("/api/v1/turmas/{id}", seededIds.get(iteration % seededIds.size()))),
+            scenario("getByIdNotFound", "getTurmaById", 404,
+                iteration -> get("/api/v1/turmas/{id}", Long.MAX_VALUE)),
+            scenario("list", "getTurmas", 200,
+                iteration -> get("/api/v1/turmas")),
+            scenario("search", "getTurmas", 200,
+                iteration -> get("/api/v1/turmas")
+                    .param("curso", PerfDataSeeder.cursoName(0))
+                    .param("nome", "Turma")),
+            scenario("fields", "getTurmaFields", 200,
+                iteration -> get("/api/v1/turmas")
+                    .param("fields", "id,nome,periodo")
+                    .param("curso", PerfDataSeeder.cursoName(0))),
+            scenario("statsCurso", "countByCurso", 200,
+                iteration -> get("/api/v1/turmas/stats/curso/{curso}", PerfDataSeeder.cursoName(iteration % PerfDataSeeder.CURSOS))),
+            scenario("statsPeriodo", "countByPeriodo", 200,
+                iteration -> get("/api/v1/turmas/stats/periodo/{periodo}", 1 + iteration % PerfDataSeeder.PERIODOS)),
+            scenario("facets", "countFacets", 200,
+                iteration -> get("/api/v1/turmas/stats/facets")),
+            scenario("suggestions", "suggest", 200,
+                iteration -> get("/api/v1/turmas/suggestions")
+                    .param("campo", iteration % 2 == 0 ? "nome" : "curso")
+                    .param("q", iteration % 2 == 0 ? "Tur" : "Cur")),
+            scenario("create", "createTurma", 201,
+                iteration -> json(post("/api/v1/turmas"), payload("Alocação criada " + iteration))),
+            scenario("update", "updateTurma", 200,
+                iteration -> json(put("/api/v1/turmas/{id}", existingId), payload("Alocação atualizada " + iteration))),
+            postgresScenario("patch", "patchTurma", 200,
+                iteration -> json(patch("/api/v1/turmas/{id}", existingId),
+                    Map.of("descricao", "Alocação parcial " + iteration))),
+            scenario("delete", "deleteTurma", 204,
+                iteration -> delete("/api/v1/turmas/{id}", pool(fixture, "delete", iteration))),
+            scenario("batch", "executeBatch", 200,
+                iteration -> json(post("/api/v1/turmas/batch"), Map.of("operacoes", List.of(
+                    Map.of("tipo", "CREATE", "dados", payload("Alocação em lote " + iteration)),
+                    Map.of("tipo", "UPDATE", "id", existingId, "dados", payload("Alocação lote atualizada " + iteration)),
+                    Map.of("tipo", "DELETE", "id", pool(fixture, "batch", iteration)))))),
+            postgresScenario("import", "importTurmas", 200,
+                iteration -> multipart("/api/v1/turmas/import").file(new MockMultipartFile(
+                    "file", "turmas.csv", "text/csv", importCsv(iteration)))),
+            scenario("close", "closeTurma", 200,
+                iteration -> post("/api/v1/turmas/{id}/close", pool(fixture, "close", iteration))),
+            postgresScenario("archive", "archiveTurma", 200,
+                iteration -> post("/api/v1/turmas/{id}/archive", pool(fixture, "archive", iteration))),
+            postgresScenario("getArchived", "getArchivedTurmaById", 200,
+                iteration -> get("/api/v1/turmas/archived/{id}", archivedPool(fixture, "getArchived", 1).get(0))),
+            postgresScenario("restore", "restoreTurma", 200,
+                iteration -> post("/api/v1/turmas/archived/{id}/restore",
+                    archivedPool(fixture, "restore", WARMUP_ITERATIONS + MEASURED_ITERATIONS).get(iteration)))
+        );
+    }
+
+    private static AllocationScenario scenario(
+            String name, String endpoint, int expectedStatus, IntFunction<RequestBuilder> request) {
+        return new AllocationScenario(name, endpoint, expectedStatus, false, request);
+    }
+
+    private static AllocationScenario postgresScenario(
+            String name, String endpoint, int expectedStatus, IntFunction<RequestBuilder> request) {
+        return new AllocationScenario(name, endpoint, expectedStatus, true, request);
+    }
+
+    private long pool(PerfFixture fixture, String name, int iteration) {
+        return pools.computeIfAbsent(name, key -> PerfDataSeeder.seed(
+                fixture.bean(JdbcTemplate.class), WARMUP_ITERATIONS + MEASURED_ITERATIONS, key.hashCode()))
+            .get(iteration);
+    }
+
+    private List<Long> archivedPool(PerfFixture fixture, String name, int size) {
+        return pools.computeIfAbsent(name, key -> {
+            TurmaArchiveService archiveService = fixture.bean(TurmaArchiveService.class);
+            List<Long> ids = PerfDataSeeder.seed(fixture.bean(JdbcTemplate.class), size, key.hashCode());
+            ids.forEach(archiveService::archiveById);
+            return ids;
+        });
+    }
+
+    private static byte[] importCsv(int iteration) {
+        return ("nome,curso,periodo,descricao\n"
+            + "Alocação importada " + iteration + "," + PerfDataSeeder.cursoName(2) + ",4,Importada pelo orçamento\n")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long measure(MockMvc mockMvc, AllocationScenario scenario) throws Exception {
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++) {
+            perform(mockMvc, scenario, iteration);
+        }
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int iteration = WARMUP_ITERATIONS; iteration < WARMUP_ITERATIONS + MEASURED_ITERATIONS; iteration++) {
+            perform(mockMvc, scenario, iteration);
+        }
+        long after = threadMXBean.getCurrentThreadAllocatedBytes();
+
+        return (after - before) / MEASURED_ITERATIONS;
+    }
+
+    private void perform(MockMvc mockMvc, AllocationScenario scenario, int iteration) throws Exception {
+        int status = mockMvc.perform(scenario.request().apply(iteration)).andReturn().getResponse().getStatus();
+        if (status != scenario.expectedStatus()) {
+            throw new IllegalStateException(String.format(
+                "Cenário %s retornou status %d (esperado %d)", scenario.name(), status, scenario.expectedStatus()));
+        }
+    }
+
+    private RequestBuilder json(
+            MockHttpServletRequestBuilder builder,
+            Map<String, Object> payload) {
+        try {
+            return builder.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(payload));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Map<String, Object> payload(String nome) {
+        return Map.of(
+            "nome", nome,
+            "curso", PerfDataSeeder.cursoName(1),
+            "periodo", 3,
+            "descricao", "Turma criada pelo teste de orçamento de alocação"
+        );
+    }
+
+    private Map<String, Long> loadBudgets() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream input = AllocationBudgetRunner.class.getResourceAsStream(BUDGETS_RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException("Arquivo de orçamentos não encontrado: " + BUDGETS_RESOURCE);
+            }
+            properties.load(input);
+        }
+
+        Map<String, Long> budgets = new TreeMap<>();
+        properties.stringPropertyNames()
+            .forEach(name -> budgets.put(name, Long.parseLong(properties.getProperty(name).trim())));
+        return budgets;
+    }
+
+    private void writeRecordedBudgets(Map<String, Long> measured) throws IOException {
+        Path output = Path.of(System.getProperty("perf.alloc.reportDir", "build/reports/allocation"))
+            .resolve("allocation-budgets.properties");
+        Files.createDirectories(output.getParent());
+
+        try (Writer writer = Files.newBufferedWriter(output)) {
+            for (Map.Entry<String, Long> entry : measured.entrySet()) {
+                writer.write(entry.getKey() + "=" + Math.round(entry.getValue() * RECORD_HEADROOM) + System.lineSeparator());
+            }
+        }
+        log.info("Orçamentos medidos gravados em {}", output);
+    }
+}
@@ -0,0 +1,13 @@
+package io.acordi.classroom.perf.alloc;
+
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.function.IntFunction;
+
+record AllocationScenario(
+    String name,
+    String endpoint,
+    int expectedStatus,
+    boolean postgresOnly,
+    IntFunction<RequestBuilder> request
+) {}
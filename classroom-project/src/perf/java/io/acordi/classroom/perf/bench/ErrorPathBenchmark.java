@@ -0,0 +1,115 @@
+package io.acordi.classroom.perf.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.acordi.classroom.perf.PerfFixture;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private static final double DEFAULT_TOLERANCE = 1.2;
+    private static final List<String> ERROR_PATHS = List.of("getByIdNotFound", "createDuplicate");
+
+    private PerfFixture fixture;
+    private MockMvc mockMvc;
+    private long existingId;
+    private byte[] duplicatePayload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        fixture = PerfFixture.start(1_000);
+        mockMvc = fixture.mockMvc();
+        existingId = fixture.seededIds().get(0);
+        duplicatePayload = new ObjectMapper().writeValueAsBytes(Map.of(
+            "nome", fixture.nomeOf(existingId),
+            "curso", "Curso 0",
+            "periodo", 1
+        ));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public int getByIdFound() throws Exception {
+        return mockMvc.perform(get("/api/v1/turmas/{id}", existingId))
+            .andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int getByIdNotFound() throws Exception {
+        return mockMvc.perform(get("/api/v1/turmas/{id}", Long.MAX_VALUE))
+            .andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int createDuplicate() throws Exception {
+        return mockMvc.perform(post("/api/v1/turmas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(duplicatePayload))
+            .andReturn().getResponse().getStatus();
+    }
+
+    public static void main(String[] args) throws Exception {
+        double tolerance = Double.parseDouble(
+            System.getProperty("perf.errors.tolerance", String.valueOf(DEFAULT_TOLERANCE)));
+
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+            .include(ErrorPathBenchmark.class.getName() + "\\.")
+            .build()).run();
+
+        Map<String, Double> scores = results.stream()
+            .collect(Collectors.toMap(
+                result -> result.getParams().getBenchmark()
+                    .substring(result.getParams().getBenchmark().lastIndexOf('.') + 1),
+                result -> result.getPrimaryResult().getScore()));
+
+        double baseline = scores.get("getByIdFound");
+        List<String> violations = ERROR_PATHS.stream()
+            .filter(name -> scores.get(name) > baseline * tolerance)
+            .map(name -> String.format("%s: %.1f us/op > %.1f us/op (%.2fx getByIdFound)",
+                name, scores.get(name), baseline * tolerance, tolerance))
+            .toList();
+
+        ERROR_PATHS.forEach(name -> log.info("{}: {} us/op ({}x getByIdFound)",
+            name, String.format("%.1f", scores.get(name)), String.format("%.2f", scores.get(name) / baseline)));
+
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Caminhos de erro acima da tolerância: " + violations);
+        }
+    }
+}
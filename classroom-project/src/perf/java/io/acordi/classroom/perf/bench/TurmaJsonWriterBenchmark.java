@@ -0,0 +1,128 @@
+package io.acordi.classroom.perf.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.acordi.classroom.application.dto.TurmaResponseDto;
+import io.acordi.classroom.perf.PerfApplication;
+import io.acordi.classroom.perf.PerfDataSeeder;
+import io.acordi.classroom.presentation.converter.TurmaJsonHttpMessageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TurmaJsonWriterBenchmark {
+
+    private static final Type LIST_TYPE = ResolvableType
+        .forClassWithGenerics(List.class, TurmaResponseDto.class)
+        .getType();
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private List<TurmaResponseDto> turmas;
+    private GenericHttpMessageConverter<Object> jacksonConverter;
+    private GenericHttpMessageConverter<Object> turmaConverter;
+    private ReusableOutputMessage output;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = springObjectMapper();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        turmaConverter = new TurmaJsonHttpMessageConverter(objectMapper);
+        output = new ReusableOutputMessage();
+        turmas = IntStream.range(0, size)
+            .mapToObj(i -> new TurmaResponseDto(
+                (long) i + 1,
+                "Turma " + i + " - Programação Orientada a Objetos",
+                PerfDataSeeder.cursoName(i % PerfDataSeeder.CURSOS),
+                i % PerfDataSeeder.PERIODOS + 1,
+                i % 3 == 0 ? null : "Descrição da turma " + i + " com \"aspas\" e acentuação",
+                i % 5 == 0))
+            .toList();
+
+        byte[] esperado = write(jacksonConverter);
+        byte[] obtido = write(turmaConverter);
+        if (!Arrays.equals(esperado, obtido)) {
+            throw new IllegalStateException("Saída do conversor de turmas difere do Jackson padrão");
+        }
+    }
+
+    @Benchmark
+    public int jacksonDefault() throws IOException {
+        return writeSize(jacksonConverter);
+    }
+
+    @Benchmark
+    public int turmaConverter() throws IOException {
+        return writeSize(turmaConverter);
+    }
+
+    private int writeSize(GenericHttpMessageConverter<Object> converter) throws IOException {
+        output.reset();
+        converter.write(turmas, LIST_TYPE, MediaType.APPLICATION_JSON, output);
+        return output.body.size();
+    }
+
+    private byte[] write(GenericHttpMessageConverter<Object> converter) throws IOException {
+        writeSize(converter);
+        return output.body.toByteArray();
+    }
+
+    private static ObjectMapper springObjectMapper() {
+        try (ConfigurableApplicationContext context = PerfApplication.start(
+                Map.of("spring.main.web-application-type", "none"))) {
+            return context.getBean(ObjectMapper.class);
+        }
+    }
+
+    private static final class ReusableOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(4 * 1024 * 1024);
+        private final HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+            headers.clear();
+        }
+
+        @Override
+        public ByteArrayOutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
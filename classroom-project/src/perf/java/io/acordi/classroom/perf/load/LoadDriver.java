@@ -0,0 +1,90 @@
+package io.acordi.classroom.perf.load;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+final class LoadDriver {
+
+    private final LoadTestSettings settings;
+    private final LoadRequestFactory requestFactory;
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .version(HttpClient.Version.HTTP_1_1)
+        .build();
+
+    LoadDriver(LoadTestSettings settings, URI baseUri, List<Long> seededIds) {
+        this.settings = settings;
+        this.requestFactory = new LoadRequestFactory(baseUri, seededIds, settings.label());
+    }
+
+    LoadTestResult run() {
+        Random random = new Random(settings.randomSeed());
+
+        log.info("Aquecimento por {} a {} req/s", settings.warmup(), settings.ratePerSecond());
+        drive(settings.warmup(), random, null);
+
+        Map<LoadOperation, OperationStats> stats = new EnumMap<>(LoadOperation.class);
+        settings.mix().weights().keySet().forEach(operation -> stats.put(operation, new OperationStats()));
+
+        log.info("Medição por {} a {} req/s com mix {}", settings.duration(), settings.ratePerSecond(), settings.mix());
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        drive(settings.duration(), random, stats);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        return new LoadTestResult(settings, startedAt, elapsed, stats);
+    }
+
+    private void drive(Duration duration, Random random, Map<LoadOperation, OperationStats> stats) {
+        long intervalNanos = Math.max(1L, Math.round(1_000_000_000.0 / settings.ratePerSecond()));
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        Phaser inFlight = new Phaser(1);
+
+        for (long arrival = 0; ; arrival++) {
+            long intendedStart = start + arrival * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            parkUntil(intendedStart);
+
+            LoadOperation operation = settings.mix().pick(random);
+            HttpRequest request = requestFactory.build(operation, random);
+
+            inFlight.register();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long latency = System.nanoTime() - intendedStart;
+                    if (response != null) {
+                        requestFactory.onResponse(operation, response);
+                    }
+                    if (stats != null) {
+                        stats.get(operation).record(latency, response != null ? response.statusCode() : -1);
+                    }
+                    inFlight.arriveAndDeregister();
+                });
+        }
+
+        inFlight.arriveAndAwaitAdvance();
+    }
+
+    private void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.acordi.classroom.perf.load;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+public final class LoadMix {
+
+    private final Map<LoadOperation, Integer> weights;
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private LoadMix(Map<LoadOperation, Integer> weights) {
+        this.weights = Collections.unmodifiableMap(weights);
+        this.operations = weights.keySet().toArray(LoadOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+
+        int accumulated = 0;
+        for (int index = 0; index < operations.length; index++) {
+            accumulated += weights.get(operations[index]);
+            cumulativeWeights[index] = accumulated;
+        }
+        this.totalWeight = accumulated;
+
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("O mix de carga precisa de ao menos uma operação com peso positivo");
+        }
+    }
+
+    public static LoadMix parse(String specification) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        Arrays.stream(specification.split(","))
+            .map(String::trim)
+            .filter(entry -> !entry.isEmpty())
+            .forEach(entry -> {
+                String[] parts = entry.split("=");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Entrada de mix inválida: " + entry);
+                }
+                int weight = Integer.parseInt(parts[1].trim());
+                if (weight > 0) {
+                    weights.put(LoadOperation.fromKey(parts[0]), weight);
+                }
+            });
+        return new LoadMix(weights);
+    }
+
+    public LoadOperation pick(Random random) {
+        int target = random.nextInt(totalWeight);
+        int index = Arrays.binarySearch(cumulativeWeights, target + 1);
+        return operations[index >= 0 ? index : -index - 1];
+    }
+
+    public Map<LoadOperation, Integer> weights() {
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        weights.forEach((operation, weight) -> builder
+            .append(builder.isEmpty() ? "" : ",")
+            .append(operation.key())
+            .append('=')
+            .append(weight));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,31 @@
+package io.acordi.classroom.perf.load;
+
+import java.util.Arrays;
+
+public enum LoadOperation {
+    GET_BY_ID("getById"),
+    SEARCH("search"),
+    LIST("list"),
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE("delete"),
+    STATS("stats"),
+    FACETS("facets");
+
+    private final String key;
+
+    LoadOperation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static LoadOperation fromKey(String key) {
+        return Arrays.stream(values())
+            .filter(operation -> operation.key.equalsIgnoreCase(key.trim()))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Operação de carga desconhecida: " + key));
+    }
+}
@@ -0,0 +1,187 @@
+package io.acordi.classroom.perf.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+@Slf4j
+final class LoadReportWriter {
+
+    private static final String TOTAL = "total";
+    private static final Map<String, Double> PERCENTILES = Map.of(
+        "p50", 50.0,
+        "p95", 95.0,
+        "p99", 99.0,
+        "p999", 99.9
+    );
+    private static final String[] PERCENTILE_ORDER = {"p50", "p95", "p99", "p999"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    void write(LoadTestResult result) throws IOException {
+        Map<String, Map<String, Object>> operations = summarize(result);
+        Optional<JsonNode> baseline = readBaseline(result.settings());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", result.settings().label());
+        report.put("startedAt", result.startedAt().toString());
+        report.put("elapsedSeconds", result.elapsed().toMillis() / 1000.0);
+        report.put("settings", settingsSummary(result.settings()));
+        report.put("operations", operations);
+        baseline.ifPresent(node -> report.put("comparison", compare(operations, node)));
+
+        Path directory = result.settings().reportDir();
+        Files.createDirectories(directory);
+        Path json = directory.resolve("loadtest-" + result.settings().label() + ".json");
+        Path html = directory.resolve("loadtest-" + result.settings().label() + ".html");
+
+        objectMapper.writeValue(json.toFile(), report);
+        Files.writeString(html, renderHtml(result, operations, baseline), StandardCharsets.UTF_8);
+
+        log.info("Relatórios de carga gerados em {} e {}", json, html);
+    }
+
+    private Map<String, Map<String, Object>> summarize(LoadTestResult result) {
+        Map<String, Map<String, Object>> operations = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        Map<Integer, Long> totalStatuses = new TreeMap<>();
+
+        for (Map.Entry<LoadOperation, OperationStats> entry : result.operations().entrySet()) {
+            OperationStats stats = entry.getValue();
+            operations.put(entry.getKey().key(), summary(
+                stats.histogram(), stats.errors(), stats.statuses(), result.throughput(stats)));
+
+            total.add(stats.histogram());
+            totalErrors += stats.errors();
+            stats.statuses().forEach((status, count) -> totalStatuses.merge(status, count, Long::sum));
+        }
+
+        double totalThroughput = total.getTotalCount() / (result.elapsed().toNanos() / 1_000_000_000.0);
+        operations.put(TOTAL, summary(total, totalErrors, totalStatuses, totalThroughput));
+        return operations;
+    }
+
+    private Map<String, Object> summary(
+            Histogram histogram, long errors, Map<Integer, Long> statuses, double throughput) {
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("throughput", round(throughput));
+        for (String percentile : PERCENTILE_ORDER) {
+            summary.put(percentile, round(histogram.getValueAtPercentile(PERCENTILES.get(percentile)) / 1000.0));
+        }
+        summary.put("max", round(histogram.getMaxValue() / 1000.0));
+        summary.put("mean", round(histogram.getMean() / 1000.0));
+        summary.put("statuses", statuses);
+        return summary;
+    }
+
+    private Map<String, Object> settingsSummary(LoadTestSettings settings) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("seedSize", settings.seedSize());
+        summary.put("ratePerSecond", settings.ratePerSecond());
+        summary.put("warmupSeconds", settings.warmup().toSeconds());
+        summary.put("durationSeconds", settings.duration().toSeconds());
+        summary.put("mix", settings.mix().toString());
+        summary.put("randomSeed", settings.randomSeed());
+        summary.put("latencyUnit", "ms");
+        return summary;
+    }
+
+    private Optional<JsonNode> readBaseline(LoadTestSettings settings) throws IOException {
+        if (settings.baseline().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(objectMapper.readTree(settings.baseline().get().toFile()));
+    }
+
+    private Map<String, Object> compare(Map<String, Map<String, Object>> operations, JsonNode baseline) {
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        comparison.put("baselineLabel", baseline.path("label").asText());
+
+        Map<String, Map<String, Double>> deltas = new LinkedHashMap<>();
+        operations.forEach((operation, summary) -> {
+            JsonNode previous = baseline.path("operations").path(operation);
+            if (previous.isMissingNode()) {
+                return;
+            }
+            Map<String, Double> delta = new LinkedHashMap<>();
+            delta.put("throughput", percentChange(previous.path("throughput").asDouble(), (Double) summary.get("throughput")));
+            for (String percentile : PERCENTILE_ORDER) {
+                delta.put(percentile, percentChange(previous.path(percentile).asDouble(), (Double) summary.get(percentile)));
+            }
+            deltas.put(operation, delta);
+        });
+
+        comparison.put("deltaPercent", deltas);
+        return comparison;
+    }
+
+    private String renderHtml(
+            LoadTestResult result, Map<String, Map<String, Object>> operations, Optional<JsonNode> baseline) {
+
+        StringBuilder html = new StringBuilder()
+            .append("<!DOCTYPE html><html lang=\"pt-BR\"><head><meta charset=\"utf-8\">")
+            .append("<title>Relatório de carga - ").append(escape(result.settings().label())).append("</title>")
+            .append("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse}")
+            .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}th:first-child,td:first-child{text-align:left}")
+            .append(".worse{color:#b00}.better{color:#070}</style></head><body>")
+            .append("<h1>Relatório de carga: ").append(escape(result.settings().label())).append("</h1>")
+            .append("<p>Início: ").append(result.startedAt())
+            .append(" | Taxa: ").append(result.settings().ratePerSecond()).append(" req/s")
+            .append(" | Duração: ").append(result.settings().duration().toSeconds()).append(" s")
+            .append(" | Mix: ").append(escape(result.settings().mix().toString()))
+            .append(" | Turmas: ").append(result.settings().seedSize()).append("</p>")
+            .append("<table><tr><th>Operação</th><th>Requisições</th><th>Erros</th><th>req/s</th>")
+            .append("<th>p50 (ms)</th><th>p95 (ms)</th><th>p99 (ms)</th><th>p99.9 (ms)</th><th>máx (ms)</th>");
+        baseline.ifPresent(node -> html.append("<th>Δ req/s</th><th>Δ p99</th>"));
+        html.append("</tr>");
+
+        operations.forEach((operation, summary) -> {
+            html.append("<tr><td>").append(operation).append("</td>");
+            for (String column : new String[] {"count", "errors", "throughput", "p50", "p95", "p99", "p999", "max"}) {
+                html.append("<td>").append(summary.get(column)).append("</td>");
+            }
+            baseline.ifPresent(node -> {
+                JsonNode previous = node.path("operations").path(operation);
+                html.append(deltaCell(previous.path("throughput").asDouble(), (Double) summary.get("throughput"), true));
+                html.append(deltaCell(previous.path("p99").asDouble(), (Double) summary.get("p99"), false));
+            });
+            html.append("</tr>");
+        });
+
+        return html.append("</table></body></html>").toString();
+    }
+
+    private String deltaCell(double previous, double current, boolean higherIsBetter) {
+        double delta = percentChange(previous, current);
+        boolean better = higherIsBetter ? delta >= 0 : delta <= 0;
+        return String.format(Locale.ROOT, "<td class=\"%s\">%+.1f%%</td>", better ? "better" : "worse", delta);
+    }
+
+    private double percentChange(double previous, double current) {
+        return previous == 0 ? 0 : round((current - previous) / previous * 100.0);
+    }
+
+    private double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+
+    private String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,129 @@
+package io.acordi.classroom.perf.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.acordi.classroom.perf.PerfDataSeeder;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class LoadRequestFactory {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    private final URI baseUri;
+    private final long[] seededIds;
+    private final String runPrefix;
+    private final ConcurrentLinkedDeque<Long> createdIds = new ConcurrentLinkedDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private boolean statsByCurso;
+
+    LoadRequestFactory(URI baseUri, List<Long> seededIds, String label) {
+        this.baseUri = baseUri.resolve("/api/v1/turmas");
+        this.seededIds = seededIds.stream().mapToLong(Long::longValue).toArray();
+        this.runPrefix = "Carga " + label + " " + Long.toHexString(System.nanoTime()) + " ";
+    }
+
+    HttpRequest build(LoadOperation operation, Random random) {
+        return switch (operation) {
+            case GET_BY_ID -> get("/" + randomSeededId(random));
+            case SEARCH -> get("?curso=" + encode(randomCurso(random)) + "&periodo=" + randomPeriodo(random));
+            case LIST -> get("");
+            case CREATE -> jsonRequest("")
+                .POST(jsonBody(payload(runPrefix + sequence.incrementAndGet(), random)))
+                .build();
+            case UPDATE -> jsonRequest("/" + updateTarget(random))
+                .PUT(jsonBody(payload(runPrefix + "atualizada " + sequence.incrementAndGet(), random)))
+                .build();
+            case DELETE -> request("/" + deleteTarget())
+                .DELETE()
+                .build();
+            case STATS -> nextStatsRequest(random);
+            case FACETS -> get("/stats/facets");
+        };
+    }
+
+    void onResponse(LoadOperation operation, HttpResponse<?> response) {
+        if (operation == LoadOperation.CREATE && response.statusCode() == 201) {
+            response.headers().firstValue("Location")
+                .map(location -> location.substring(location.lastIndexOf('/') + 1))
+                .map(Long::parseLong)
+                .ifPresent(createdIds::addLast);
+        }
+    }
+
+    private HttpRequest nextStatsRequest(Random random) {
+        statsByCurso = !statsByCurso;
+        return statsByCurso
+            ? get("/stats/curso/" + encode(randomCurso(random)))
+            : get("/stats/periodo/" + randomPeriodo(random));
+    }
+
+    private long randomSeededId(Random random) {
+        return seededIds.length == 0 ? MISSING_ID : seededIds[random.nextInt(seededIds.length)];
+    }
+
+    private long updateTarget(Random random) {
+        Long created = createdIds.peekLast();
+        return created != null ? created : randomSeededId(random);
+    }
+
+    private long deleteTarget() {
+        Long created = createdIds.pollFirst();
+        return created != null ? created : MISSING_ID;
+    }
+
+    private String randomCurso(Random random) {
+        return PerfDataSeeder.cursoName(random.nextInt(PerfDataSeeder.CURSOS));
+    }
+
+    private int randomPeriodo(Random random) {
+        return 1 + random.nextInt(PerfDataSeeder.PERIODOS);
+    }
+
+    private Map<String, Object> payload(String nome, Random random) {
+        return Map.of(
+            "nome", nome,
+            "curso", randomCurso(random),
+            "periodo", randomPeriodo(random),
+            "descricao", "Turma criada pela suíte de carga"
+        );
+    }
+
+    private HttpRequest get(String suffix) {
+        return request(suffix).GET().build();
+    }
+
+    private HttpRequest.Builder request(String suffix) {
+        return HttpRequest.newBuilder(URI.create(baseUri + suffix))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Accept", "application/json");
+    }
+
+    private HttpRequest.Builder jsonRequest(String suffix) {
+        return request(suffix).header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Map<String, Object> payload) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Falha ao serializar corpo da requisição de carga", ex);
+        }
+    }
+
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,17 @@
+package io.acordi.classroom.perf.load;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+public record LoadTestResult(
+    LoadTestSettings settings,
+    Instant startedAt,
+    Duration elapsed,
+    Map<LoadOperation, OperationStats> operations
+) {
+
+    public double throughput(OperationStats stats) {
+        return stats.count() / (elapsed.toNanos() / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,29 @@
+package io.acordi.classroom.perf.load;
+
+import io.acordi.classroom.perf.PerfApplication;
+import io.acordi.classroom.perf.PerfDataSeeder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = PerfApplication.start(Map.of("server.port", 0))) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            List<Long> seededIds = PerfDataSeeder.seed(
+                context.getBean(JdbcTemplate.class), settings.seedSize(), settings.randomSeed());
+
+            LoadTestResult result = new LoadDriver(settings, URI.create("http://localhost:" + port), seededIds).run();
+            new LoadReportWriter().write(result);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.acordi.classroom.perf.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+public record LoadTestSettings(
+    String label,
+    int seedSize,
+    double ratePerSecond,
+    Duration warmup,
+    Duration duration,
+    LoadMix mix,
+    long randomSeed,
+    Path reportDir,
+    Optional<Path> baseline
+) {
+
+    private static final String DEFAULT_MIX = "getById=35,search=20,list=5,create=10,update=10,delete=5,stats=15";
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            System.getProperty("perf.load.label", "local"),
+            Integer.getInteger("perf.load.seed", 10_000),
+            Double.parseDouble(System.getProperty("perf.load.rate", "100")),
+            Duration.ofSeconds(Long.getLong("perf.load.warmupSeconds", 15L)),
+            Duration.ofSeconds(Long.getLong("perf.load.durationSeconds", 60L)),
+            LoadMix.parse(System.getProperty("perf.load.mix", DEFAULT_MIX)),
+            Long.getLong("perf.load.randomSeed", 42L),
+            Path.of(System.getProperty("perf.load.reportDir", "build/reports/loadtest")),
+            Optional.ofNullable(System.getProperty("perf.load.baseline"))
+                .filter(path -> !path.isBlank())
+                .map(Path::of)
+        );
+    }
+}
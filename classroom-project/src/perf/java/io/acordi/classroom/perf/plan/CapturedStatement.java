@@ -0,0 +1,42 @@
+package io.acordi.classroom.perf.plan;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CapturedStatement {
+
+    private final String sql;
+    private final List<Binding> bindings = new ArrayList<>();
+
+    CapturedStatement(String sql) {
+        this.sql = sql;
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    void bind(Method setter, Object[] arguments) {
+        bindings.add(new Binding(setter, arguments));
+    }
+
+    public PreparedStatement prepareWithPrefix(Connection connection, String prefix) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(prefix + sql);
+        for (Binding binding : bindings) {
+            try {
+                binding.setter().invoke(statement, binding.arguments());
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                statement.close();
+                throw new SQLException("Falha ao reaplicar parâmetro capturado: " + binding.setter().getName(), ex);
+            }
+        }
+        return statement;
+    }
+
+    private record Binding(Method setter, Object[] arguments) {}
+}
@@ -0,0 +1,169 @@
+package io.acordi.classroom.perf.plan;
+
+import io.acordi.classroom.infrastructure.repository.TurmaJpaRepository;
+import io.acordi.classroom.perf.PerfApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+public final class PartitionPruningBenchmark {
+
+    private static final long ROWS = Long.getLong("perf.partition.rows", 10_000_000L);
+    private static final long CHUNK = 1_000_000L;
+    private static final String NOME_PREFIX = "Turma Particao ";
+    private static final Pattern PARTITION = Pattern.compile("turmas_p\\d+");
+    private static final Pattern EXECUTION_TIME = Pattern.compile("Execution Time: ([\\d.]+) ms");
+
+    private PartitionPruningBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (!PerfApplication.usesPostgres()) {
+            throw new IllegalStateException(
+                "O benchmark de particionamento requer um PostgreSQL local: informe -Dperf.jdbcUrl=jdbc:postgresql://...");
+        }
+
+        StatementCapture capture = new StatementCapture();
+        try (ConfigurableApplicationContext context = PerfApplication.start(
+                Map.of(
+                    "spring.main.web-application-type", "none",
+                    "spring.flyway.locations", "classpath:db/migration,classpath:db/partitioning"
+                ),
+                ctx -> ctx.getBeanFactory().addBeanPostProcessor(capture))) {
+
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            requirePartitionedTable(jdbcTemplate);
+            seed(jdbcTemplate);
+            try {
+                run(context, capture);
+            } finally {
+                if (!Boolean.getBoolean("perf.partition.keep")) {
+                    log.info("Removendo as turmas geradas pelo benchmark");
+                    jdbcTemplate.update("DELETE FROM turmas WHERE nome LIKE ?", NOME_PREFIX + "%");
+                }
+            }
+        }
+    }
+
+    private static void run(ConfigurableApplicationContext context, StatementCapture capture) throws SQLException {
+        TurmaJpaRepository repository = context.getBean(TurmaJpaRepository.class);
+        DataSource dataSource = context.getBean(DataSource.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+
+        List<String> violations = new ArrayList<>();
+        StringBuilder report = new StringBuilder(String.format(
+            "%n%-45s %12s %14s%n", "Consulta", "Partições", "Execução (ms)"));
+
+        for (Map.Entry<String, Case> entry : cases().entrySet()) {
+            Case benchmarkCase = entry.getValue();
+            List<CapturedStatement> statements = capture.capture(
+                () -> transaction.executeWithoutResult(status -> benchmarkCase.query().accept(repository)));
+
+            for (CapturedStatement statement : statements) {
+                String plan = explainAnalyze(dataSource, statement);
+                Set<String> partitions = scannedPartitions(plan);
+                report.append(String.format("%-45s %12d %14s%n", entry.getKey(), partitions.size(), executionTime(plan)));
+                log.debug("{}:\n{}", entry.getKey(), plan);
+
+                if (benchmarkCase.expectPruning() && partitions.size() != 1) {
+                    violations.add(entry.getKey() + " varreu as partições " + partitions + ":\n" + plan);
+                }
+            }
+        }
+
+        log.info("Resultado do benchmark de particionamento com {} turmas:{}", ROWS, report);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Consultas sem poda de partições:\n" + String.join("\n", violations));
+        }
+    }
+
+    private static Map<String, Case> cases() {
+        Map<String, Case> cases = new LinkedHashMap<>();
+        cases.put("findByCursoIgnoreCaseAndPeriodo", new Case(true,
+            repository -> repository.findByCursoIgnoreCaseAndPeriodo("Curso Particao 42", 3)));
+        cases.put("countByPeriodo", new Case(true,
+            repository -> repository.countByPeriodo(3)));
+        cases.put("findWithDynamicFilters(curso, periodo)", new Case(true,
+            repository -> repository.findWithDynamicFilters(null, "Particao 42", 3)));
+        cases.put("countFacetsWithDynamicFilters(periodo)", new Case(true,
+            repository -> repository.countFacetsWithDynamicFilters(null, null, 3)));
+        cases.put("findWithDynamicFilters(curso) [referência]", new Case(false,
+            repository -> repository.findWithDynamicFilters(null, "Particao 42", null)));
+        cases.put("countByCursoIgnoreCase [referência]", new Case(false,
+            repository -> repository.countByCursoIgnoreCase("Curso Particao 42")));
+        return cases;
+    }
+
+    private static void requirePartitionedTable(JdbcTemplate jdbcTemplate) {
+        String kind = jdbcTemplate.queryForObject(
+            "SELECT relkind::text FROM pg_class WHERE relname = 'turmas' AND relnamespace = current_schema()::regnamespace",
+            String.class);
+        if (!"p".equals(kind)) {
+            throw new IllegalStateException("A tabela turmas não está particionada; verifique o script R__partition_turmas_by_periodo.sql em db/partitioning");
+        }
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        log.info("Populando {} turmas particionadas", ROWS);
+        for (long start = 1; start <= ROWS; start += CHUNK) {
+            jdbcTemplate.update("""
+                INSERT INTO turmas (nome, curso, periodo, descricao)
+                SELECT ? || g, 'Curso Particao ' || (g % 500), 1 + (g % 10), NULL
+                FROM generate_series(?::bigint, ?::bigint) AS g
+                """, NOME_PREFIX, start, Math.min(start + CHUNK - 1, ROWS));
+        }
+        jdbcTemplate.execute("VACUUM ANALYZE turmas");
+    }
+
+    private static String explainAnalyze(DataSource dataSource, CapturedStatement statement) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = statement.prepareWithPrefix(connection, "EXPLAIN (ANALYZE, BUFFERS) ");
+             ResultSet plan = explain.executeQuery()) {
+            StringBuilder text = new StringBuilder();
+            while (plan.next()) {
+                text.append(plan.getString(1)).append('\n');
+            }
+            return text.toString();
+        }
+    }
+
+    private static Set<String> scannedPartitions(String plan) {
+        Set<String> partitions = new TreeSet<>();
+        for (String line : plan.split("\n")) {
+            if (line.contains("never executed")) {
+                continue;
+            }
+            Matcher matcher = PARTITION.matcher(line);
+            while (matcher.find()) {
+                partitions.add(matcher.group());
+            }
+        }
+        return partitions;
+    }
+
+    private static String executionTime(String plan) {
+        Matcher matcher = EXECUTION_TIME.matcher(plan);
+        return matcher.find() ? matcher.group(1) : "?";
+    }
+
+    private record Case(boolean expectPruning, Consumer<TurmaJpaRepository> query) {}
+}
@@ -0,0 +1,202 @@
+package io.acordi.classroom.perf.plan;
+
+import io.acordi.classroom.infrastructure.repository.TurmaJpaRepository;
+import io.acordi.classroom.perf.PerfApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+public final class QueryPlanCheckRunner {
+
+    private static final int ROWS = Integer.getInteger("perf.plan.rows", 50_000);
+    private static final boolean PARTITIONED = Boolean.getBoolean("perf.plan.partitioned");
+    private static final String SEQ_SCAN = "Seq Scan";
+    private static final Pattern PARTITION = Pattern.compile("turmas_p\\d+");
+    private static final String PARTITION_INDEXES = """
+        SELECT parent.relname AS parent_index, child.relname AS partition_index
+        FROM pg_inherits i
+        JOIN pg_class parent ON parent.oid = i.inhparent
+        JOIN pg_class child ON child.oid = i.inhrelid
+        WHERE parent.relkind = 'I'
+        """;
+
+    private QueryPlanCheckRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (!PerfApplication.usesPostgres()) {
+            throw new IllegalStateException(
+                "A verificação de planos requer um PostgreSQL local: informe -Dperf.jdbcUrl=jdbc:postgresql://...");
+        }
+
+        StatementCapture capture = new StatementCapture();
+        Map<String, Object> properties = PARTITIONED
+            ? Map.of(
+                "spring.main.web-application-type", "none",
+                "spring.flyway.locations", "classpath:db/migration,classpath:db/partitioning")
+            : Map.of("spring.main.web-application-type", "none");
+        try (ConfigurableApplicationContext context = PerfApplication.start(
+                properties,
+                ctx -> ctx.getBeanFactory().addBeanPostProcessor(capture))) {
+
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            seed(jdbcTemplate);
+            try {
+                verify(context, capture);
+            } finally {
+                jdbcTemplate.update("DELETE FROM turmas WHERE nome LIKE 'Turma Plano %'");
+            }
+        }
+    }
+
+    private static void verify(ConfigurableApplicationContext context, StatementCapture capture) throws SQLException {
+        TurmaJpaRepository repository = context.getBean(TurmaJpaRepository.class);
+        DataSource dataSource = context.getBean(DataSource.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+
+        Map<String, List<String>> partitionIndexes = partitionIndexes(context.getBean(JdbcTemplate.class));
+        Map<String, PlanExpectation> queries = queries();
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, PlanExpectation> query : queries.entrySet()) {
+            PlanExpectation expectation = query.getValue();
+            List<CapturedStatement> statements = capture.capture(
+                () -> transaction.executeWithoutResult(status -> expectation.query().accept(repository)));
+
+            for (CapturedStatement statement : statements) {
+                String plan = explain(dataSource, statement);
+                log.info("{}:\n{}", query.getKey(), plan);
+                Set<String> partitions = partitionsScanned(plan);
+                if (PARTITIONED && expectation.periodo() != null
+                        && !partitions.equals(Set.of("turmas_p" + expectation.periodo()))) {
+                    violations.add(query.getKey() + " deveria percorrer apenas turmas_p" + expectation.periodo()
+                        + ", mas percorre " + partitions + ":\n" + plan);
+                } else if (PARTITIONED && expectation.periodoOnly() && plan.contains(SEQ_SCAN)) {
+                    log.info("{} percorre sequencialmente apenas a partição do período filtrado", query.getKey());
+                } else if (plan.contains(SEQ_SCAN)) {
+                    violations.add(query.getKey() + " usa varredura sequencial:\n" + plan);
+                } else if (!expectation.usesExpectedIndex(plan, partitionIndexes)) {
+                    violations.add(query.getKey() + " não usa nenhum dos índices esperados " + expectation.indexes() + ":\n" + plan);
+                }
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Consultas sem índice adequado:\n" + String.join("\n", violations));
+        }
+        log.info("Todas as {} consultas verificadas utilizam os índices esperados", queries.size());
+    }
+
+    private static Map<String, PlanExpectation> queries() {
+        Map<String, PlanExpectation> queries = new LinkedHashMap<>();
+        queries.put("findById", expect(repository -> repository.findById(1234L),
+            "turmas_pkey"));
+        queries.put("findByNomeLikeIgnoreCase", expect(repository -> repository.findByNomeLikeIgnoreCase("%plano 1234%"),
+            "idx_turmas_lower_nome_trgm"));
+        queries.put("findByCursoLikeIgnoreCase", expect(repository -> repository.findByCursoLikeIgnoreCase("%curso plano 17%"),
+            "idx_turmas_lower_curso_trgm"));
+        queries.put("findByPeriodo", expectPeriodoOnly(3, repository -> repository.findByPeriodo(3),
+            "idx_turmas_periodo"));
+        queries.put("findByNomeIgnoreCase", expect(repository -> repository.findByNomeIgnoreCase("TURMA PLANO 1234"),
+            "idx_turmas_lower_nome"));
+        queries.put("findByCursoIgnoreCaseAndPeriodo", expect(3, repository -> repository.findByCursoIgnoreCaseAndPeriodo("Curso Plano 17", 3),
+            "idx_turmas_lower_curso_periodo"));
+        queries.put("countByCursoIgnoreCase", expect(repository -> repository.countByCursoIgnoreCase("curso plano 17"),
+            "idx_turmas_lower_curso_periodo"));
+        queries.put("countByPeriodo", expectPeriodoOnly(3, repository -> repository.countByPeriodo(3),
+            "idx_turmas_periodo"));
+        queries.put("existsByNomeIgnoreCase", expect(repository -> repository.existsByNomeIgnoreCase("turma plano 1234"),
+            "idx_turmas_lower_nome"));
+        queries.put("existsByCursoAndPeriodo", expect(3, repository -> repository.existsByCursoAndPeriodo("curso plano 17", 3),
+            "idx_turmas_lower_curso_periodo"));
+        queries.put("findWithDynamicFilters(nome)", expect(repository -> repository.findWithDynamicFilters("plano 1234", null, null),
+            "idx_turmas_lower_nome_trgm"));
+        queries.put("findWithDynamicFilters(curso, periodo)", expect(3, repository -> repository.findWithDynamicFilters(null, "plano 17", 3),
+            "idx_turmas_lower_curso_trgm", "idx_turmas_periodo"));
+        queries.put("countFacetsWithDynamicFilters(curso)", expect(repository -> repository.countFacetsWithDynamicFilters(null, "plano 17", null),
+            "idx_turmas_lower_curso_trgm"));
+        return queries;
+    }
+
+    private static PlanExpectation expect(Consumer<TurmaJpaRepository> query, String... indexes) {
+        return new PlanExpectation(query, null, false, List.of(indexes));
+    }
+
+    private static PlanExpectation expect(int periodo, Consumer<TurmaJpaRepository> query, String... indexes) {
+        return new PlanExpectation(query, periodo, false, List.of(indexes));
+    }
+
+    private static PlanExpectation expectPeriodoOnly(int periodo, Consumer<TurmaJpaRepository> query, String... indexes) {
+        return new PlanExpectation(query, periodo, true, List.of(indexes));
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        log.info("Populando {} turmas para a verificação de planos", ROWS);
+        jdbcTemplate.update("""
+            INSERT INTO turmas (nome, curso, periodo, descricao)
+            SELECT 'Turma Plano ' || g, 'Curso Plano ' || (g % 300), 1 + (g % 10), NULL
+            FROM generate_series(1, ?) AS g
+            """, ROWS);
+        jdbcTemplate.execute("VACUUM ANALYZE turmas");
+    }
+
+    private static Map<String, List<String>> partitionIndexes(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.query(PARTITION_INDEXES, (rs, rowNum) -> Map.entry(
+                rs.getString("parent_index"), rs.getString("partition_index")))
+            .stream()
+            .collect(Collectors.groupingBy(Map.Entry::getKey,
+                Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+    }
+
+    private static Set<String> partitionsScanned(String plan) {
+        Set<String> partitions = new TreeSet<>();
+        Matcher matcher = PARTITION.matcher(plan);
+        while (matcher.find()) {
+            partitions.add(matcher.group());
+        }
+        return partitions;
+    }
+
+    private static String explain(DataSource dataSource, CapturedStatement statement) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = statement.prepareWithPrefix(connection, "EXPLAIN ");
+             ResultSet plan = explain.executeQuery()) {
+            StringBuilder text = new StringBuilder();
+            while (plan.next()) {
+                text.append(plan.getString(1)).append('\n');
+            }
+            return text.toString();
+        }
+    }
+
+    private record PlanExpectation(
+            Consumer<TurmaJpaRepository> query, Integer periodo, boolean periodoOnly, List<String> indexes) {
+
+        boolean usesExpectedIndex(String plan, Map<String, List<String>> partitionIndexes) {
+            return indexes.stream()
+                .flatMap(index -> Stream.concat(
+                    Stream.of(index), partitionIndexes.getOrDefault(index, List.of()).stream()))
+                .anyMatch(index -> Pattern.compile("\\b" + index + "\\b").matcher(plan).find());
+        }
+    }
+}
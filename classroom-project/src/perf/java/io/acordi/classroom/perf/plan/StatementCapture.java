@@ -0,0 +1,83 @@
+package io.acordi.classroom.perf.plan;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class StatementCapture implements BeanPostProcessor {
+
+    private final ThreadLocal<List<CapturedStatement>> captured = new ThreadLocal<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, this::interceptDataSource);
+        }
+        return bean;
+    }
+
+    public List<CapturedStatement> capture(Runnable action) {
+        List<CapturedStatement> statements = new ArrayList<>();
+        captured.set(statements);
+        try {
+            action.run();
+        } finally {
+            captured.remove();
+        }
+        return statements;
+    }
+
+    private Object interceptDataSource(DataSource target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        return result instanceof Connection connection
+            ? proxy(Connection.class, connection, this::interceptConnection)
+            : result;
+    }
+
+    private Object interceptConnection(Connection target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        List<CapturedStatement> statements = captured.get();
+
+        if (statements == null || !method.getName().equals("prepareStatement")
+                || !(result instanceof PreparedStatement preparedStatement)) {
+            return result;
+        }
+
+        CapturedStatement statement = new CapturedStatement((String) args[0]);
+        statements.add(statement);
+        return proxy(PreparedStatement.class, preparedStatement, (delegate, invoked, arguments) -> {
+            if (invoked.getName().startsWith("set") && arguments != null && arguments.length >= 2
+                    && arguments[0] instanceof Integer) {
+                statement.bind(invoked, arguments.clone());
+            }
+            return invoke(delegate, invoked, arguments);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Interceptor<T> interceptor) {
+        InvocationHandler handler = (proxy, method, args) -> interceptor.intercept(target, method, args);
+        return (T) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface Interceptor<T> {
+        Object intercept(T target, Method method, Object[] args) throws Throwable;
+    }
+}